@@ -0,0 +1,559 @@
+/**
+ * The shared body of the hurricane organizers.  Data is read through a
+ * HurricaneStore, so any storage backend can be used, and the statistics,
+ * indexes and sort orders are built from it the same way for every
+ * organizer.  Subclasses only decide which collection searches return.
+ *
+ * Sorting never moves the data: each sort switches to a cached
+ * permutation of the rows, and printing and searching follow it.
+ *
+ * @param <R>   the collection of hurricanes that searches return
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public abstract class AbstractHurricaneOrganizer<R> implements HurricaneOrganizer<R>
+{
+    // the loaded data in file order
+    private HurricaneStore store;
+    // the loaded Hurricane objects in file order, or null to build them on demand
+    private Hurricane [] hurricanes;
+    // counts and speed and pressure totals by year, month and category
+    private HurricaneCube cube;
+    // statistics of the data, or null until they are next needed
+    private HurricaneStats stats;
+    // sort orders of the rows, built when first asked for
+    private HurricaneSortViews views;
+    // runs searches over the store, its year and name indexes built at
+    // load time, and the sort orders
+    private HurricaneQueryPlanner planner;
+    // the rows in the order of the last sort, or null for file order
+    private int[] order;
+    // the position of each row in order, or null until a search needs it
+    private int[] positions;
+
+    /**
+     * Replaces the data with newly loaded hurricanes and rebuilds
+     * everything derived from it.
+     *
+     * @param data          the hurricanes, in file order
+     * @param keepObjects   true to build every Hurricane object now and
+     *                      keep it, false to build them only when needed
+     */
+    protected void load(HurricaneStore data, boolean keepObjects)
+    {
+        store = data;
+        hurricanes = null;
+        if (keepObjects)
+        {
+            hurricanes = new Hurricane[data.size()];
+            for (int row = 0; row < hurricanes.length; row++)
+            {
+                hurricanes[row] = data.toHurricane(row);
+            }
+        }
+        cube = HurricaneCube.of(data);
+        stats = null;
+        views = new HurricaneSortViews(data);
+        planner = new HurricaneQueryPlanner(data, new HurricaneYearIndex(data),
+            new HurricaneNameIndex(data), views);
+        setOrder(null);
+    }
+
+    /**
+     * Finds the storage backend holding the data.
+     *
+     * @return the store, in file order
+     */
+    public HurricaneStore getStore()
+    {
+        return store;
+    }
+
+    /**
+     * Finds the Hurricane object for a row in file order.  Unless the
+     * objects are kept, it is built from the store.
+     *
+     * @param row   the row index in file order
+     * @return the hurricane in that row
+     */
+    protected Hurricane record(int row)
+    {
+        if (hurricanes == null)
+        {
+            return store.toHurricane(row);
+        }
+        return hurricanes[row];
+    }
+
+    /**
+     * Collects the hurricanes in some rows into the collection this
+     * organizer returns.
+     *
+     * @param rows  the row indices, in the order to return them
+     * @return the hurricanes in those rows
+     */
+    protected abstract R recordsFor(int[] rows);
+
+    /**
+     * Collects the hurricanes in some rows, in the form the name searches
+     * return.
+     *
+     * @param rows  the row indices
+     * @return the hurricanes in those rows, or null if there are none
+     */
+    private R recordsOrNull(int[] rows)
+    {
+        if (rows.length == 0)
+        {
+            return null;
+        }
+        return recordsFor(rows);
+    }
+
+    /**
+     * Makes an order the one used for printing and searching.
+     *
+     * @param rows  the rows in their new order, or null for file order
+     */
+    private void setOrder(int[] rows)
+    {
+        order = rows;
+        positions = null;
+    }
+
+    /**
+     * Puts search results into the order of the last sort.
+     *
+     * @param rows  matching rows in file order
+     * @return the same rows in the current order
+     */
+    private int[] inCurrentOrder(int[] rows)
+    {
+        int[] current = currentPositions();
+        return current == null ? rows : HurricaneSortViews.arrange(rows, current);
+    }
+
+    /**
+     * Finds where each row sits in the order of the last sort.
+     *
+     * @return the position of each row, or null for file order
+     */
+    private int[] currentPositions()
+    {
+        if (order != null && positions == null)
+        {
+            positions = HurricaneSortViews.positions(order);
+        }
+        return order == null ? null : positions;
+    }
+
+    /**
+     * Finds the rows in the order of the last sort.
+     *
+     * @return the rows, in their current order
+     */
+    private int[] currentOrder()
+    {
+        if (order != null)
+        {
+            return order;
+        }
+        int[] rows = new int[size()];
+        for (int row = 0; row < rows.length; row++)
+        {
+            rows[row] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * Finds the number of hurricanes, without building objects.
+     *
+     * @return the number of hurricanes
+     */
+    public int size()
+    {
+        return store.size();
+    }
+
+    /**
+     * Finds the statistics of the data, combining the cells of the cube
+     * built at load time the first time they are needed.  Sorting does not
+     * change them, so the cache is only cleared when data is read.
+     *
+     * @return the cached statistics
+     */
+    private HurricaneStats stats()
+    {
+        if (stats == null)
+        {
+            stats = cube.stats();
+        }
+        return stats;
+    }
+
+    /**
+     * Finds the statistics of the hurricanes in a range of years, months
+     * and categories, from the cube instead of the data.  Every bound is
+     * included.
+     *
+     * @param lowYear       the first year
+     * @param highYear      the last year
+     * @param lowMonth      the first month, as 1 to 12
+     * @param highMonth     the last month, as 1 to 12
+     * @param lowCategory   the lowest category
+     * @param highCategory  the highest category
+     * @return the statistics of the matching hurricanes
+     */
+    public HurricaneStats findStats(int lowYear, int highYear, int lowMonth, int highMonth,
+        int lowCategory, int highCategory)
+    {
+        return cube.stats(lowYear, highYear, lowMonth, highMonth, lowCategory, highCategory);
+    }
+
+    /**
+     * Finds the maximum windspeed.
+     *
+     * @return maxSpeed the maximum windspeed
+     */
+    public int findMaxWindSpeed( )
+    {
+        // 0 when there is no data, as the original scans returned
+        return stats().getCount() == 0 ? 0 : stats().getMax(HurricaneField.SPEED);
+    }
+
+    /**
+     * Finds the maximum pressure.
+     *
+     * @return maxPressure the maximum pressure
+     */
+    public int findMaxPressure( )
+    {
+        // 0 when there is no data, as the original scans returned
+        return stats().getCount() == 0 ? 0 : stats().getMax(HurricaneField.PRESSURE);
+    }
+
+    /**
+     * Finds the minimum windspeed.
+     *
+     * @return minSpeed the minimum windspeed
+     */
+    public int findMinWindSpeed( )
+    {
+        return stats().getMin(HurricaneField.SPEED);
+    }
+
+    /**
+     * Finds the minimum pressure.
+     *
+     * @return minPressure the minimum pressure
+     */
+    public int findMinPressure( )
+    {
+        return stats().getMin(HurricaneField.PRESSURE);
+    }
+
+    /**
+     * Finds the average windspeed.
+     *
+     * @return averageSpeed the average speed
+     */
+    public double calculateAverageWindSpeed( )
+    {
+        return stats().getAverage(HurricaneField.SPEED);
+    }
+
+    /**
+     * Finds the average pressure.
+     *
+     * @return averagePressure the average pressure
+     */
+    public double calculateAveragePressure( )
+    {
+        return stats().getAverage(HurricaneField.PRESSURE);
+    }
+
+    /**
+     * Finds the average category.
+     *
+     * @return averageCategory the average category
+     */
+    public double calculateAverageCategory( )
+    {
+        return stats().getAverage(HurricaneField.CATEGORY);
+    }
+
+    /**
+     * Finds the hurricanes with the largest values of a field.  A bounded
+     * heap keeps the best k rows, so neither the data nor the current sort
+     * order changes.
+     *
+     * @param field the field to rank by
+     * @param k     how many hurricanes to find
+     * @return up to k hurricanes, largest first; equal values keep file order
+     */
+    public R findLargest(HurricaneField field, int k)
+    {
+        return recordsFor(HurricaneTopK.parallelRows(store, field, k, true));
+    }
+
+    /**
+     * Finds the hurricanes with the smallest values of a field.  A bounded
+     * heap keeps the best k rows, so neither the data nor the current sort
+     * order changes.
+     *
+     * @param field the field to rank by
+     * @param k     how many hurricanes to find
+     * @return up to k hurricanes, smallest first; equal values keep file order
+     */
+    public R findSmallest(HurricaneField field, int k)
+    {
+        return recordsFor(HurricaneTopK.parallelRows(store, field, k, false));
+    }
+
+    /**
+     * Gathers the statistics of each group of hurricanes, scanning chunks
+     * of the data in parallel.
+     *
+     * @param grouping  how to group the hurricanes
+     * @return the count, minimum, maximum, sum and mean of each group
+     */
+    public HurricaneGroupBy groupBy(HurricaneGrouping grouping)
+    {
+        return HurricaneGroupBy.parallelOf(store, grouping);
+    }
+
+    /**
+     * Sorts ascending based upon the hurricanes' years.  The hurricanes
+     * themselves are not moved; the cached year order of HurricaneSortViews
+     * becomes the order used for printing and searching.
+     */
+    public void sortYears()
+    {
+        setOrder(views.byField(HurricaneField.YEAR, false));
+    }
+
+    /**
+     * Lexicographically sorts hurricanes based on the hurricanes' name,
+     * ignoring case, by switching to the cached name order.
+     */
+    public void sortNames()
+    {
+        setOrder(views.byName());
+    }
+
+    /**
+     * Sorts descending based upon the hurricanes' categories,
+     * by switching to the cached category order.
+     */
+    public void sortCategories()
+    {
+        setOrder(views.byField(HurricaneField.CATEGORY, true));
+    }
+
+    /**
+     * Sorts descending based upon pressures, by switching to the cached
+     * pressure order.
+     */
+    public void sortPressures()
+    {
+        setOrder(views.byField(HurricaneField.PRESSURE, true));
+    }
+
+    /**
+     * Sorts by several fields at once.  Each row gets one composite long
+     * key, so the sort compares a single primitive per step.
+     *
+     * @param fields        the fields to sort by, most significant first
+     * @param descending    for each field, true to put its largest values first
+     */
+    public void sortBy(HurricaneField[] fields, boolean[] descending)
+    {
+        setOrder(views.byFields(fields, descending));
+    }
+
+    /**
+     * Sorts ascending based upon wind speeds.  Only the hurricanes between
+     * the two positions of the current order are sorted; sorting all of
+     * them switches to the cached speed order.
+     *
+     * @param   low the index of the first hurricane to sort
+     * @param   high the index of the last hurricane to sort, included
+     */
+    public void sortWindSpeeds(int low, int high)
+    {
+        setOrder(views.byFieldWithin(order, low, high, HurricaneField.SPEED, false));
+    }
+
+    /**
+     * Search for all the hurricanes in a given year, answered from the
+     * year index instead of scanning the data.
+     *
+     * @param   year the year of the hurricane
+     * @return  the hurricanes that occured in the parameter year, in the
+     *          current sort order
+     */
+    public R searchYear(int year)
+    {
+        return searchYears(year, year);
+    }
+
+    /**
+     * Search for all the hurricanes in a range of years.
+     *
+     * @param   low  the first year to include
+     * @param   high the last year to include
+     * @return  the hurricanes that occured between the two years, in the
+     *          current sort order
+     */
+    public R searchYears(int low, int high)
+    {
+        return query(new HurricaneQuery().where(HurricaneField.YEAR, low, high));
+    }
+
+    /**
+     * Search for all the hurricanes with a pressure in a range, answered
+     * from a sorted index on pressure.
+     *
+     * @param   low  the lowest pressure to include
+     * @param   high the highest pressure to include
+     * @return  the matching hurricanes, in the current sort order
+     */
+    public R searchPressures(int low, int high)
+    {
+        return query(new HurricaneQuery().where(HurricaneField.PRESSURE, low, high));
+    }
+
+    /**
+     * Search for all the hurricanes with a wind speed in a range, answered
+     * from a sorted index on speed.
+     *
+     * @param   low  the lowest speed to include, in knots
+     * @param   high the highest speed to include, in knots
+     * @return  the matching hurricanes, in the current sort order
+     */
+    public R searchWindSpeeds(int low, int high)
+    {
+        return query(new HurricaneQuery().where(HurricaneField.SPEED, low, high));
+    }
+
+    /**
+     * Search for a hurricane name, ignoring case.  The name index answers
+     * directly, so the hurricanes are not sorted or otherwise reordered.
+     *
+     * @param  name   hurricane name being search
+     * @return all hurricanes with specified name, in the current sort order.
+     *         Returns null if there are no matches
+     */
+    public R searchHurricaneName(String name)
+    {
+        return recordsOrNull(run(new HurricaneQuery().whereName(name)).getRows());
+    }
+
+    /**
+     * Search for hurricanes whose name starts with a prefix, ignoring case.
+     *
+     * @param  prefix the start of the hurricane name
+     * @return all hurricanes whose name starts with the prefix, in the
+     *         current sort order.  Returns null if there are no matches
+     */
+    public R searchHurricaneNamePrefix(String prefix)
+    {
+        return recordsOrNull(run(new HurricaneQuery().whereNamePrefix(prefix)).getRows());
+    }
+
+    /**
+     * Search for hurricanes whose name is close to a given name, allowing
+     * for typing mistakes.  Case is ignored.
+     *
+     * @param  name     hurricane name being search
+     * @param  maxEdits the number of letters that may be inserted, deleted
+     *                  or changed to reach the name
+     * @return all hurricanes with a close name, in the current sort order.
+     *         Returns null if there are no matches
+     */
+    public R searchHurricaneNameFuzzy(String name, int maxEdits)
+    {
+        return recordsOrNull(run(new HurricaneQuery().whereNameNear(name, maxEdits)).getRows());
+    }
+
+    /**
+     * Finds the bitmaps of the rows in each category, month and year,
+     * building them in one pass the first time they are needed.
+     *
+     * @return the bitmap index of the hurricanes
+     */
+    public HurricaneBitmapIndex getBitmapIndex()
+    {
+        return planner.getBitmapIndex();
+    }
+
+    /**
+     * Search for the hurricanes in a set of rows.  Only the matching rows
+     * are read.
+     *
+     * @param matches   the rows to return
+     * @return the hurricanes in those rows, in the current sort order
+     */
+    public R searchMatching(HurricaneBitmap matches)
+    {
+        return recordsFor(inCurrentOrder(matches.toRows()));
+    }
+
+    /**
+     * Runs a query.  The planner picks an index, a sorted view or a scan,
+     * and only matching rows are read.  Without an order of its own the
+     * query returns hurricanes in the current sort order.
+     *
+     * @param query the query
+     * @return the matching rows and the fields selected
+     */
+    public HurricaneQueryResult run(HurricaneQuery query)
+    {
+        int[] rows = planner.rows(query, query.getOrderBy() == null ? currentPositions() : null);
+        return new HurricaneQueryResult(store, rows, query.getFields());
+    }
+
+    /**
+     * Runs a query and collects the matching hurricanes.
+     *
+     * @param query the query
+     * @return the matching hurricanes, in the query's order
+     */
+    public R query(HurricaneQuery query)
+    {
+        return recordsFor(run(query).getRows());
+    }
+
+    /**
+     * Counts the hurricanes a query matches, ignoring its limit.
+     *
+     * @param query the query
+     * @return the number of matching hurricanes
+     */
+    public int count(HurricaneQuery query)
+    {
+        return planner.count(query);
+    }
+
+    /**
+     * Tells how a query would be run.
+     *
+     * @param query the query
+     * @return the access path the planner chooses
+     */
+    public HurricaneQueryPlanner.Access explain(HurricaneQuery query)
+    {
+        return planner.plan(query);
+    }
+
+    /**
+     * Prints every hurricane in the order of the last sort.
+     */
+    public void printHurricanes()
+    {
+        printHurricanes(recordsFor(currentOrder()));
+    }
+}
@@ -1,4 +1,5 @@
 import java.io.*;
+import java.util.*;
 
 /**
  * Models hurricane information, including categories.  
@@ -12,9 +13,16 @@ import java.io.*;
  */
 public class Hurricane
 {
+    // three letter month abbreviations, in calendar order
+    private static final String MONTHS = "janfebmaraprmayjunjulaugsepoctnovdec";
+
     //Instance variables
     private int year, pressure, speed, category;
+    // the month as 1 to 12, or 0 if it is not recognized
+    private int monthNumber;
     private String month, name;
+    // the name in lower case, computed once so comparisons do not allocate
+    private String nameKey;
 
     /**
      * Initializes a Hurricane object with no information.
@@ -35,15 +43,68 @@ public class Hurricane
      */
     public Hurricane(int year, String month, 
     int pressure, int speed, String name)
+    {
+        this(year, month, pressure, speed, name, nameKey(name));
+    }
+
+    /**
+     * Initializes a Hurricane object whose name key is already known, so
+     * hurricanes built from the same stored name share one key.
+     * 
+     * @param year      year the hurricane took place
+     * @param month     month in String format
+     * @param pressure  hurricane's pressure
+     * @param speed     hurricane's speed in knots
+     * @param name      hurricane's name
+     * @param nameKey   the name as returned by nameKey(name)
+     */
+    Hurricane(int year, String month, 
+    int pressure, int speed, String name, String nameKey)
     {
         this.year = year;
         this.pressure = pressure;
         this.speed = speed;
         this.month = month;
         this.name = name;
+        this.nameKey = nameKey;
+        this.monthNumber = monthNumber(month);
         this.category = determineCategory(speed);
     }
 
+    /**
+     * Finds the calendar number of a month from its first three letters,
+     * ignoring case, so "Sep" and "Sept" are both 9.
+     * 
+     * @param month     month in String format
+     * @return the month as 1 to 12, or 0 if it is not recognized
+     */
+    public static int monthNumber(String month)
+    {
+        if (month.length() >= 3)
+        {
+            for (int m = 0; m < 12; m++)
+            {
+                if (month.regionMatches(true, 0, MONTHS, 3 * m, 3))
+                {
+                    return m + 1;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Converts a name to the key used to compare and look up names, so
+     * that case is ignored.
+     * 
+     * @param name  a hurricane name
+     * @return the name in lower case
+     */
+    public static String nameKey(String name)
+    {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Based upon Saffir/Simpson Hurricane Scale, figures out
      * the category using wind speed in knots.
@@ -54,32 +115,42 @@ public class Hurricane
      * @return Saffir/Simpson Hurricane Scale category
      */
     public int determineCategory(int knots)
+    {
+        category = categoryForSpeed(knots);
+        return category;
+    }
+
+    /**
+     * Saffir/Simpson category for a wind speed, without needing a
+     * Hurricane object.  Used by the storage classes that keep speeds
+     * in primitive arrays.
+     * 
+     * @param knots     wind speed in knots
+     * @return Saffir/Simpson Hurricane Scale category
+     */
+    public static int categoryForSpeed(int knots)
     {
         if(knots < 64)
         {
-            category = 0;
+            return 0;
         }
         else if (knots < 83)
         {
-            category = 1;
+            return 1;
         }
         else if (knots < 96)
         {
-            category = 2;
+            return 2;
         }
         else if(knots < 113)
         {
-            category = 3;
+            return 3;
         }
         else if (knots < 137)
         {
-            category = 4;
-        }
-        else
-        {
-            category = 5;
+            return 4;
         }
-        return category;
+        return 5;
     }
 
     //Getters
@@ -94,6 +165,16 @@ public class Hurricane
         return name;
     }
 
+    /**
+     * Finds the name of the hurricane in lower case.
+     * 
+     * @return the key used to compare hurricane names
+     */
+    public String getNameKey()
+    {
+        return nameKey;
+    }
+
     /**
      * Finds the month the hurricane hits.
      * 
@@ -104,6 +185,16 @@ public class Hurricane
         return month;
     }
 
+    /**
+     * Finds the calendar number of the month the hurricane hits.
+     * 
+     * @return the month as 1 to 12, or 0 if it is not recognized
+     */
+    public int getMonthNumber()
+    {
+        return monthNumber;
+    }
+
     /**
      * Finds the air pressure of the hurricane.
      * 
@@ -186,7 +277,26 @@ public class Hurricane
     }
 
     /**
-     * Compares two Hurricane's names.
+     * Compares two Hurricane's months in calendar order.
+     * 
+     * @param h the hurricane being compared
+     * 
+     * @return   the value 0 if the parameter hurricane's month is
+     *           the same as this hurricane's month;
+     *      
+     *           a value less than 0 if this hurricane's month comes
+     *           before the parameter hurricane's month;
+     *      
+     *           and a value greater than 0 if this hurricane's month
+     *           comes later.
+     */
+    public int compareMonthTo(Hurricane h)
+    {
+        return this.getMonthNumber() - h.getMonthNumber();
+    }
+
+    /**
+     * Compares two Hurricane's names, ignoring case.
      * 
      * @param h the hurricane being compared
      * 
@@ -201,9 +311,7 @@ public class Hurricane
      */
     public int compareNameTo(Hurricane h)
     {
-        String thisNameLC = this.getName().toLowerCase();
-        String hNameLC = h.getName().toLowerCase();
-        return thisNameLC.compareTo(hNameLC);
+        return this.getNameKey().compareTo(h.getNameKey());
     }
 
     /**
@@ -0,0 +1,452 @@
+import java.io.*;
+import java.lang.management.*;
+import java.util.*;
+
+/**
+ * Times every organizer operation on HurricaneOrganizerArray over each
+ * storage backend (Hurricane objects, columns, packed longs and off-heap
+ * records) and on HurricaneOrganizerArrayList, over data sets of several
+ * sizes, and prints throughput, latency and allocation for each.  Run it
+ * with the row counts to test, for example
+ * <pre>
+ *   java HurricaneBenchmark 1000 100000
+ * </pre>
+ * or with no arguments for every power of ten from 10^3 to 10^7.
+ *
+ * Each data set is written to a temporary file by HurricaneDataGenerator,
+ * drawing on hurricanedata.txt and seeded by its size.  The data, each
+ * backend's store and one organizer over it are built once per size,
+ * outside the timed region, and every operation runs on them.  Building
+ * the organizer makes the statistics cube and the year and name indexes,
+ * so the statistics and searches time lookups in those, and the "build"
+ * operation times making them.  An organizer keeps each sort order once
+ * it is made, so the sorts are timed on a new set of sort views over the
+ * same store each time.  "readFile" times the backend's own load: the
+ * text file for objects, columns and packed longs, and the mapped
+ * snapshot for off-heap records.
+ *
+ * Every operation is first run for at least WARMUP_NANOS, so the JIT has
+ * compiled it, and the heap is collected before it is measured.
+ * Allocation is summed over every live thread, including the fork/join
+ * workers; a worker that exits during an operation would be undercounted.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneBenchmark
+{
+    // run every operation for this long before measuring it
+    private static final long WARMUP_NANOS = 2000000000L;
+    private static final int MIN_WARMUP_ITERATIONS = 2;
+    // aim for about this many rows processed per measured operation
+    private static final long ROWS_PER_MEASUREMENT = 2000000;
+    private static final int MIN_ITERATIONS = 5;
+    private static final int MAX_ITERATIONS = 1000;
+
+    // results are stored here so the work cannot be optimized away
+    private static volatile Object sink;
+
+    /**
+     * Something to time.
+     */
+    private interface Operation
+    {
+        /**
+         * Runs the operation once.
+         *
+         * @param kind      builds organizers of the kind being measured
+         * @param organizer an organizer over store
+         * @param store     the data of the current size, as the kind holds it
+         * @param filename  the data file of the current size
+         * @return a result to keep alive
+         * @throws IOException  if a file cannot be read
+         */
+        Object run(Kind kind, HurricaneOrganizer<?> organizer, HurricaneStore store,
+            String filename) throws IOException;
+    }
+
+    /**
+     * Builds one kind of organizer over one storage backend.
+     */
+    private interface Kind
+    {
+        /**
+         * Puts loaded data in this kind's storage backend.
+         *
+         * @param data  the hurricanes, in file order
+         * @return the hurricanes, as this kind holds them
+         */
+        HurricaneStore store(HurricaneColumns data);
+
+        /**
+         * Builds an organizer over stored data.
+         *
+         * @param store the hurricanes, from store
+         * @return a new organizer
+         */
+        HurricaneOrganizer<?> build(HurricaneStore store);
+
+        /**
+         * Builds an organizer by reading a file.
+         *
+         * @param filename  hurricane information
+         * @return a new organizer
+         * @throws IOException  if the file cannot be read
+         */
+        HurricaneOrganizer<?> read(String filename) throws IOException;
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args  the row counts to test; every power of ten from 10^3
+     *              to 10^7 if there are none
+     * @throws IOException  if the data files cannot be written or read
+     */
+    public static void main(String[] args) throws IOException
+    {
+        int[] sizes = {1000, 10000, 100000, 1000000, 10000000};
+        if (args.length > 0)
+        {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++)
+            {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        HurricaneColumns sample = HurricaneFileReader.read("hurricanedata.txt");
+        Map<String, Kind> kinds = kinds();
+        Map<String, Operation> operations = operations();
+        System.out.println("Statistics and searches run on an organizer whose cube and "
+            + "indexes were built untimed; \"build\" times building them, and each sort "
+            + "builds new sort views.");
+        System.out.printf("%-28s %10s %-28s %14s %14s %14s%n",
+            "Organizer", "Rows", "Operation", "ops/s", "us/op", "bytes/op");
+        for (int size : sizes)
+        {
+            File file = File.createTempFile("hurricanes", ".txt");
+            file.deleteOnExit();
+            new HurricaneDataGenerator(sample, size).write(file.getPath(), size);
+            String filename = file.getPath();
+            HurricaneColumns data = HurricaneFileReader.read(filename);
+            for (Map.Entry<String, Kind> kind : kinds.entrySet())
+            {
+                HurricaneStore store = kind.getValue().store(data);
+                HurricaneOrganizer<?> organizer = kind.getValue().build(store);
+                for (Map.Entry<String, Operation> operation : operations.entrySet())
+                {
+                    measure(kind.getKey(), kind.getValue(), operation.getKey(),
+                        operation.getValue(), organizer, store, filename);
+                }
+            }
+            new File(HurricaneSnapshot.snapshotName(filename)).delete();
+            file.delete();
+        }
+    }
+
+    /**
+     * Times one operation on one kind of organizer and prints the result.
+     *
+     * @param kindName      the organizer's name, for the report
+     * @param kind          builds the organizers
+     * @param name          the operation's name, for the report
+     * @param operation     the operation to time
+     * @param organizer     an organizer over store
+     * @param store         the data of the current size, as the kind holds it
+     * @param filename      the data file of the current size
+     * @throws IOException  if the file cannot be read
+     */
+    private static void measure(String kindName, Kind kind, String name, Operation operation,
+        HurricaneOrganizer<?> organizer, HurricaneStore store, String filename)
+        throws IOException
+    {
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        for (int i = 0; i < MIN_WARMUP_ITERATIONS || System.nanoTime() < warmupEnd; i++)
+        {
+            sink = operation.run(kind, organizer, store, filename);
+        }
+        System.gc();
+
+        int iterations = (int)Math.max(MIN_ITERATIONS,
+                Math.min(MAX_ITERATIONS, ROWS_PER_MEASUREMENT / Math.max(store.size(), 1)));
+        long totalNanos = 0;
+        long totalBytes = 0;
+        // reading the counters allocates too; this much is taken off each reading
+        long overhead = allocatedBytes();
+        overhead = allocatedBytes() - overhead;
+        for (int i = 0; i < iterations; i++)
+        {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            sink = operation.run(kind, organizer, store, filename);
+            totalNanos += System.nanoTime() - start;
+            totalBytes += allocatedBytes() - bytes - overhead;
+        }
+
+        double nanosPerOp = (double)totalNanos / iterations;
+        System.out.printf("%-28s %10d %-28s %14.1f %14.3f %14d%n", kindName, store.size(),
+            name, 1e9 / nanosPerOp, nanosPerOp / 1e3,
+            allocatedBytes() < 0 ? -1 : totalBytes / iterations);
+    }
+
+    /**
+     * Finds how many bytes the live threads, including the fork/join
+     * workers, have allocated so far.
+     *
+     * @return the bytes allocated, or -1 if the JVM does not track them
+     */
+    private static long allocatedBytes()
+    {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean))
+        {
+            return -1;
+        }
+        long total = 0;
+        for (long bytes : ((com.sun.management.ThreadMXBean)threads)
+                .getThreadAllocatedBytes(threads.getAllThreadIds()))
+        {
+            // -1 for a thread that ended after its id was listed
+            total += Math.max(bytes, 0);
+        }
+        return total;
+    }
+
+    /**
+     * Lists the organizers to benchmark.
+     *
+     * @return each organizer's name and how to build it
+     */
+    private static Map<String, Kind> kinds()
+    {
+        Map<String, Kind> kinds = new LinkedHashMap<String, Kind>();
+        kinds.put("Array, objects", new Kind()
+            {
+                public HurricaneStore store(HurricaneColumns data)
+                {
+                    return data;
+                }
+
+                public HurricaneOrganizer<?> build(HurricaneStore store)
+                {
+                    return new HurricaneOrganizerArray(store, false);
+                }
+
+                public HurricaneOrganizer<?> read(String filename) throws IOException
+                {
+                    return new HurricaneOrganizerArray(filename);
+                }
+            });
+        kinds.put("Array, columns", new Kind()
+            {
+                public HurricaneStore store(HurricaneColumns data)
+                {
+                    return data;
+                }
+
+                public HurricaneOrganizer<?> build(HurricaneStore store)
+                {
+                    return new HurricaneOrganizerArray(store, true);
+                }
+
+                public HurricaneOrganizer<?> read(String filename) throws IOException
+                {
+                    return new HurricaneOrganizerArray(filename, true);
+                }
+            });
+        kinds.put("Array, packed", new Kind()
+            {
+                public HurricaneStore store(HurricaneColumns data)
+                {
+                    return new HurricanePackedStore(data);
+                }
+
+                public HurricaneOrganizer<?> build(HurricaneStore store)
+                {
+                    return new HurricaneOrganizerArray(store, true);
+                }
+
+                public HurricaneOrganizer<?> read(String filename) throws IOException
+                {
+                    return new HurricaneOrganizerArray(
+                        new HurricanePackedStore(HurricaneFileReader.read(filename)), true);
+                }
+            });
+        kinds.put("Array, off-heap", new Kind()
+            {
+                public HurricaneStore store(HurricaneColumns data)
+                {
+                    return HurricaneOffHeapStore.allocate(data);
+                }
+
+                public HurricaneOrganizer<?> build(HurricaneStore store)
+                {
+                    return new HurricaneOrganizerArray(store, true);
+                }
+
+                public HurricaneOrganizer<?> read(String filename) throws IOException
+                {
+                    return new HurricaneOrganizerArray(HurricaneOffHeapStore.open(filename), true);
+                }
+            });
+        kinds.put("ArrayList", new Kind()
+            {
+                public HurricaneStore store(HurricaneColumns data)
+                {
+                    return data;
+                }
+
+                public HurricaneOrganizer<?> build(HurricaneStore store)
+                {
+                    return new HurricaneOrganizerArrayList(store);
+                }
+
+                public HurricaneOrganizer<?> read(String filename) throws IOException
+                {
+                    return new HurricaneOrganizerArrayList(filename);
+                }
+            });
+        return kinds;
+    }
+
+    /**
+     * Lists the operations to benchmark.
+     *
+     * @return each operation's name and body
+     */
+    private static Map<String, Operation> operations()
+    {
+        Map<String, Operation> operations = new LinkedHashMap<String, Operation>();
+        operations.put("readFile", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename) throws IOException
+                {
+                    return kind.read(filename);
+                }
+            });
+        operations.put("build", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return kind.build(store);
+                }
+            });
+        operations.put("findMaxWindSpeed", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.findMaxWindSpeed();
+                }
+            });
+        operations.put("findMaxPressure", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.findMaxPressure();
+                }
+            });
+        operations.put("findMinWindSpeed", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.findMinWindSpeed();
+                }
+            });
+        operations.put("findMinPressure", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.findMinPressure();
+                }
+            });
+        operations.put("calculateAverageWindSpeed", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.calculateAverageWindSpeed();
+                }
+            });
+        operations.put("calculateAveragePressure", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.calculateAveragePressure();
+                }
+            });
+        operations.put("calculateAverageCategory", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.calculateAverageCategory();
+                }
+            });
+        operations.put("sortYears", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return new HurricaneSortViews(store).byField(HurricaneField.YEAR, false);
+                }
+            });
+        operations.put("sortNames", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return new HurricaneSortViews(store).byName();
+                }
+            });
+        operations.put("sortCategories", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return new HurricaneSortViews(store).byField(HurricaneField.CATEGORY, true);
+                }
+            });
+        operations.put("sortPressures", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return new HurricaneSortViews(store).byField(HurricaneField.PRESSURE, true);
+                }
+            });
+        operations.put("sortWindSpeeds", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return new HurricaneSortViews(store).byField(HurricaneField.SPEED, false);
+                }
+            });
+        operations.put("searchYear", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.searchYear(2005);
+                }
+            });
+        operations.put("searchHurricaneName", new Operation()
+            {
+                public Object run(Kind kind, HurricaneOrganizer<?> organizer,
+                    HurricaneStore store, String filename)
+                {
+                    return organizer.searchHurricaneName("Katrina");
+                }
+            });
+        return operations;
+    }
+}
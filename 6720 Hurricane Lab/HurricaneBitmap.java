@@ -0,0 +1,505 @@
+import java.util.*;
+
+/**
+ * A compressed set of row indices, laid out like a Roaring bitmap.  Rows
+ * are split by their high 16 bits into chunks of 65536.  A chunk with few
+ * rows keeps them as a sorted array of their low 16 bits; a chunk with
+ * more than 4096 rows keeps a 65536-bit bitmap of 1024 longs instead, so
+ * no chunk takes more than 8 KB.
+ *
+ * And and or work a chunk at a time, whole words at a time between two
+ * bitmap chunks, and return new sets, so filters can be combined before
+ * any hurricane is read.  The number of rows in a set is kept per chunk,
+ * so counting a filter's matches needs no rows either.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneBitmap
+{
+    // chunks with more rows than this use a bitmap
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    // the high 16 bits of each chunk, ascending
+    private char[] keys;
+    // each chunk's rows, either a char[] of low bits or a long[] bitmap
+    private Object[] chunks;
+    // the number of rows in each chunk
+    private int[] cardinalities;
+    private int size;
+
+    /**
+     * Initializes an empty set.
+     */
+    public HurricaneBitmap()
+    {
+        keys = new char[4];
+        chunks = new Object[4];
+        cardinalities = new int[4];
+    }
+
+    /**
+     * Adds a row.  Adding rows in ascending order is fastest.
+     *
+     * @param row   a non-negative row index
+     */
+    public void add(int row)
+    {
+        char key = (char)(row >>> 16);
+        char low = (char)row;
+        int i = size > 0 && keys[size - 1] == key ? size - 1 : indexOf(key);
+        if (i < 0)
+        {
+            i = -i - 1;
+            insertChunk(i, key, new char[4], 0);
+        }
+
+        if (chunks[i] instanceof long[])
+        {
+            long[] bits = (long[])chunks[i];
+            long bit = 1L << low;
+            if ((bits[low >>> 6] & bit) == 0)
+            {
+                bits[low >>> 6] |= bit;
+                cardinalities[i]++;
+            }
+            return;
+        }
+
+        char[] values = (char[])chunks[i];
+        int count = cardinalities[i];
+        int at = count > 0 && values[count - 1] < low
+            ? -count - 1
+            : Arrays.binarySearch(values, 0, count, low);
+        if (at >= 0)
+        {
+            return;
+        }
+        at = -at - 1;
+        if (count == ARRAY_MAX)
+        {
+            long[] bits = toBits(values, count);
+            bits[low >>> 6] |= 1L << low;
+            chunks[i] = bits;
+        }
+        else
+        {
+            if (count == values.length)
+            {
+                values = Arrays.copyOf(values, Math.min(count * 2, ARRAY_MAX));
+                chunks[i] = values;
+            }
+            System.arraycopy(values, at, values, at + 1, count - at);
+            values[at] = low;
+        }
+        cardinalities[i]++;
+    }
+
+    /**
+     * Finds a chunk by its high bits.
+     *
+     * @param key   the high 16 bits
+     * @return the chunk's index, or -(insertion point) - 1 if there is none
+     */
+    private int indexOf(char key)
+    {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * Inserts a chunk, growing the arrays if they are full.
+     *
+     * @param i             where to insert it
+     * @param key           its high 16 bits
+     * @param chunk         its rows
+     * @param cardinality   the number of rows in it
+     */
+    private void insertChunk(int i, char key, Object chunk, int cardinality)
+    {
+        if (size == keys.length)
+        {
+            keys = Arrays.copyOf(keys, size * 2);
+            chunks = Arrays.copyOf(chunks, size * 2);
+            cardinalities = Arrays.copyOf(cardinalities, size * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(chunks, i, chunks, i + 1, size - i);
+        System.arraycopy(cardinalities, i, cardinalities, i + 1, size - i);
+        keys[i] = key;
+        chunks[i] = chunk;
+        cardinalities[i] = cardinality;
+        size++;
+    }
+
+    /**
+     * Appends a chunk, which must come after every chunk already held.
+     * Empty chunks are dropped.
+     *
+     * @param key           its high 16 bits
+     * @param chunk         its rows
+     * @param cardinality   the number of rows in it
+     */
+    private void appendChunk(char key, Object chunk, int cardinality)
+    {
+        if (cardinality > 0)
+        {
+            insertChunk(size, key, chunk, cardinality);
+        }
+    }
+
+    /**
+     * Finds the number of rows in the set.
+     *
+     * @return the number of rows
+     */
+    public int cardinality()
+    {
+        int total = 0;
+        for (int i = 0; i < size; i++)
+        {
+            total += cardinalities[i];
+        }
+        return total;
+    }
+
+    /**
+     * Tells whether the set holds a row.
+     *
+     * @param row   a row index
+     * @return true if the row is in the set
+     */
+    public boolean contains(int row)
+    {
+        int i = indexOf((char)(row >>> 16));
+        if (row < 0 || i < 0)
+        {
+            return false;
+        }
+        char low = (char)row;
+        if (chunks[i] instanceof long[])
+        {
+            return (((long[])chunks[i])[low >>> 6] & 1L << low) != 0;
+        }
+        return Arrays.binarySearch((char[])chunks[i], 0, cardinalities[i], low) >= 0;
+    }
+
+    /**
+     * Lists the rows in the set.
+     *
+     * @return the row indices in ascending order
+     */
+    public int[] toRows()
+    {
+        int[] rows = new int[cardinality()];
+        int n = 0;
+        for (int i = 0; i < size; i++)
+        {
+            int high = keys[i] << 16;
+            if (chunks[i] instanceof long[])
+            {
+                long[] bits = (long[])chunks[i];
+                for (int w = 0; w < BITMAP_WORDS; w++)
+                {
+                    long word = bits[w];
+                    while (word != 0)
+                    {
+                        rows[n++] = high | w << 6 | Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                    }
+                }
+            }
+            else
+            {
+                char[] values = (char[])chunks[i];
+                for (int j = 0; j < cardinalities[i]; j++)
+                {
+                    rows[n++] = high | values[j];
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Finds the rows in both this set and another.
+     *
+     * @param other the other set
+     * @return a new set of the rows in both
+     */
+    public HurricaneBitmap and(HurricaneBitmap other)
+    {
+        HurricaneBitmap result = new HurricaneBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size)
+        {
+            if (keys[i] < other.keys[j])
+            {
+                i++;
+            }
+            else if (keys[i] > other.keys[j])
+            {
+                j++;
+            }
+            else
+            {
+                result.andChunks(keys[i], chunks[i], cardinalities[i],
+                    other.chunks[j], other.cardinalities[j]);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Appends the intersection of two chunks with the same high bits.
+     *
+     * @param key       the chunks' high bits
+     * @param a         the first chunk
+     * @param countA    the number of rows in a
+     * @param b         the second chunk
+     * @param countB    the number of rows in b
+     */
+    private void andChunks(char key, Object a, int countA, Object b, int countB)
+    {
+        if (a instanceof long[] && b instanceof long[])
+        {
+            long[] bitsA = (long[])a;
+            long[] bitsB = (long[])b;
+            long[] bits = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++)
+            {
+                bits[w] = bitsA[w] & bitsB[w];
+                count += Long.bitCount(bits[w]);
+            }
+            appendChunk(key, count > ARRAY_MAX ? bits : toValues(bits, count), count);
+        }
+        else if (a instanceof long[] || b instanceof long[])
+        {
+            long[] bits = (long[])(a instanceof long[] ? a : b);
+            char[] values = (char[])(a instanceof long[] ? b : a);
+            int valueCount = a instanceof long[] ? countB : countA;
+            char[] kept = new char[valueCount];
+            int count = 0;
+            for (int k = 0; k < valueCount; k++)
+            {
+                char low = values[k];
+                if ((bits[low >>> 6] & 1L << low) != 0)
+                {
+                    kept[count++] = low;
+                }
+            }
+            appendChunk(key, kept, count);
+        }
+        else
+        {
+            char[] valuesA = (char[])a;
+            char[] valuesB = (char[])b;
+            char[] kept = new char[Math.min(countA, countB)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < countA && j < countB)
+            {
+                if (valuesA[i] < valuesB[j])
+                {
+                    i++;
+                }
+                else if (valuesA[i] > valuesB[j])
+                {
+                    j++;
+                }
+                else
+                {
+                    kept[count++] = valuesA[i];
+                    i++;
+                    j++;
+                }
+            }
+            appendChunk(key, kept, count);
+        }
+    }
+
+    /**
+     * Finds the rows in either this set or another.
+     *
+     * @param other the other set
+     * @return a new set of the rows in either
+     */
+    public HurricaneBitmap or(HurricaneBitmap other)
+    {
+        HurricaneBitmap result = new HurricaneBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size)
+        {
+            if (j == other.size || (i < size && keys[i] < other.keys[j]))
+            {
+                result.appendChunk(keys[i], copy(chunks[i]), cardinalities[i]);
+                i++;
+            }
+            else if (i == size || keys[i] > other.keys[j])
+            {
+                result.appendChunk(other.keys[j], copy(other.chunks[j]), other.cardinalities[j]);
+                j++;
+            }
+            else
+            {
+                result.orChunks(keys[i], chunks[i], cardinalities[i],
+                    other.chunks[j], other.cardinalities[j]);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Appends the union of two chunks with the same high bits.
+     *
+     * @param key       the chunks' high bits
+     * @param a         the first chunk
+     * @param countA    the number of rows in a
+     * @param b         the second chunk
+     * @param countB    the number of rows in b
+     */
+    private void orChunks(char key, Object a, int countA, Object b, int countB)
+    {
+        if (a instanceof long[] || b instanceof long[])
+        {
+            long[] bits = a instanceof long[] ? ((long[])a).clone() : toBits((char[])a, countA);
+            if (b instanceof long[])
+            {
+                long[] other = (long[])b;
+                for (int w = 0; w < BITMAP_WORDS; w++)
+                {
+                    bits[w] |= other[w];
+                }
+            }
+            else
+            {
+                char[] values = (char[])b;
+                for (int k = 0; k < countB; k++)
+                {
+                    bits[values[k] >>> 6] |= 1L << values[k];
+                }
+            }
+            int count = 0;
+            for (long word : bits)
+            {
+                count += Long.bitCount(word);
+            }
+            appendChunk(key, bits, count);
+            return;
+        }
+
+        char[] valuesA = (char[])a;
+        char[] valuesB = (char[])b;
+        char[] merged = new char[countA + countB];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < countA || j < countB)
+        {
+            if (j == countB || (i < countA && valuesA[i] < valuesB[j]))
+            {
+                merged[count++] = valuesA[i++];
+            }
+            else if (i == countA || valuesA[i] > valuesB[j])
+            {
+                merged[count++] = valuesB[j++];
+            }
+            else
+            {
+                merged[count++] = valuesA[i++];
+                j++;
+            }
+        }
+        appendChunk(key, count > ARRAY_MAX ? toBits(merged, count) : merged, count);
+    }
+
+    /**
+     * Finds the rows in any of some sets, combining them in pairs so each
+     * row is copied about log k times rather than k times.
+     *
+     * @param sets  the sets
+     * @return a new set of the rows in any of them
+     */
+    public static HurricaneBitmap orAll(List<HurricaneBitmap> sets)
+    {
+        if (sets.isEmpty())
+        {
+            return new HurricaneBitmap();
+        }
+        List<HurricaneBitmap> level = sets;
+        while (level.size() > 1)
+        {
+            List<HurricaneBitmap> next = new ArrayList<HurricaneBitmap>();
+            for (int i = 0; i + 1 < level.size(); i += 2)
+            {
+                next.add(level.get(i).or(level.get(i + 1)));
+            }
+            if (level.size() % 2 == 1)
+            {
+                next.add(level.get(level.size() - 1));
+            }
+            level = next;
+        }
+        return level == sets ? level.get(0).or(new HurricaneBitmap()) : level.get(0);
+    }
+
+    /**
+     * Copies a chunk so a new set does not share it.
+     *
+     * @param chunk the chunk
+     * @return a copy of it
+     */
+    private static Object copy(Object chunk)
+    {
+        return chunk instanceof long[] ? ((long[])chunk).clone() : ((char[])chunk).clone();
+    }
+
+    /**
+     * Turns an array chunk into a bitmap chunk.
+     *
+     * @param values    the low bits, ascending
+     * @param count     how many of the values to use
+     * @return the bitmap
+     */
+    private static long[] toBits(char[] values, int count)
+    {
+        long[] bits = new long[BITMAP_WORDS];
+        for (int k = 0; k < count; k++)
+        {
+            bits[values[k] >>> 6] |= 1L << values[k];
+        }
+        return bits;
+    }
+
+    /**
+     * Turns a bitmap chunk into an array chunk.
+     *
+     * @param bits  the bitmap
+     * @param count the number of bits set
+     * @return the low bits, ascending
+     */
+    private static char[] toValues(long[] bits, int count)
+    {
+        char[] values = new char[count];
+        int n = 0;
+        for (int w = 0; w < BITMAP_WORDS; w++)
+        {
+            long word = bits[w];
+            while (word != 0)
+            {
+                values[n++] = (char)(w << 6 | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return values;
+    }
+}
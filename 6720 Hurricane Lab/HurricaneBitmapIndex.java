@@ -0,0 +1,160 @@
+import java.util.*;
+
+/**
+ * Bitmaps of the rows of a store for every category and month and every
+ * year that occurs, so filters on several of them can be combined with
+ * HurricaneBitmap and and or before any row is read.  A range of values
+ * is the or of its bitmaps, and the number of matches is the cardinality
+ * of the result.  Years are kept as a sorted array beside their bitmaps,
+ * so a bad year far from the rest costs one bitmap, not one per year
+ * between.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneBitmapIndex
+{
+    private static final int MONTHS = 13;
+    private static final int CATEGORIES = 6;
+
+    private HurricaneBitmap[] byCategory, byMonth;
+    // the years that occur, in ascending order, and the bitmap of each
+    private int[] years;
+    private HurricaneBitmap[] byYear;
+
+    /**
+     * Builds the bitmaps in one pass over a store.
+     *
+     * @param store the hurricanes
+     */
+    public HurricaneBitmapIndex(HurricaneStore store)
+    {
+        byCategory = emptyBitmaps(CATEGORIES);
+        byMonth = emptyBitmaps(MONTHS);
+
+        HashMap<Integer, HurricaneBitmap> yearBitmaps = new HashMap<Integer, HurricaneBitmap>();
+        HurricaneBitmap yearBitmap = null;
+        int lastYear = 0;
+        for (int row = 0; row < store.size(); row++)
+        {
+            byCategory[store.getCategory(row)].add(row);
+            byMonth[store.getMonthNumber(row)].add(row);
+            int year = store.getYear(row);
+            // rows usually come in year order, so the map is seldom needed
+            if (yearBitmap == null || year != lastYear)
+            {
+                yearBitmap = yearBitmaps.get(year);
+                if (yearBitmap == null)
+                {
+                    yearBitmap = new HurricaneBitmap();
+                    yearBitmaps.put(year, yearBitmap);
+                }
+                lastYear = year;
+            }
+            yearBitmap.add(row);
+        }
+
+        years = new int[yearBitmaps.size()];
+        int i = 0;
+        for (int year : yearBitmaps.keySet())
+        {
+            years[i++] = year;
+        }
+        Arrays.sort(years);
+        byYear = new HurricaneBitmap[years.length];
+        for (i = 0; i < years.length; i++)
+        {
+            byYear[i] = yearBitmaps.get(years[i]);
+        }
+    }
+
+    /**
+     * Makes some empty bitmaps.
+     *
+     * @param count how many to make
+     * @return the bitmaps
+     */
+    private static HurricaneBitmap[] emptyBitmaps(int count)
+    {
+        HurricaneBitmap[] bitmaps = new HurricaneBitmap[count];
+        for (int i = 0; i < count; i++)
+        {
+            bitmaps[i] = new HurricaneBitmap();
+        }
+        return bitmaps;
+    }
+
+    /**
+     * Combines the bitmaps of a range of values.
+     *
+     * @param bitmaps   the bitmap of each value, from the first value on
+     * @param first     the value of bitmaps[0]
+     * @param low       the lowest value to include
+     * @param high      the highest value to include
+     * @return a new bitmap of the rows with a value in the range
+     */
+    private static HurricaneBitmap between(HurricaneBitmap[] bitmaps, int first,
+        int low, int high)
+    {
+        long from = Math.max((long)low - first, 0);
+        long to = Math.min((long)high - first, bitmaps.length - 1);
+        List<HurricaneBitmap> parts = new ArrayList<HurricaneBitmap>();
+        for (long i = from; i <= to; i++)
+        {
+            parts.add(bitmaps[(int)i]);
+        }
+        return HurricaneBitmap.orAll(parts);
+    }
+
+    /**
+     * Finds the rows in a range of categories.
+     *
+     * @param low   the lowest category
+     * @param high  the highest category
+     * @return a new bitmap of the matching rows
+     */
+    public HurricaneBitmap categories(int low, int high)
+    {
+        return between(byCategory, 0, low, high);
+    }
+
+    /**
+     * Finds the rows in some months.
+     *
+     * @param months    the months as 1 to 12
+     * @return a new bitmap of the matching rows
+     */
+    public HurricaneBitmap months(int... months)
+    {
+        List<HurricaneBitmap> parts = new ArrayList<HurricaneBitmap>();
+        for (int month : months)
+        {
+            if (month >= 0 && month < MONTHS)
+            {
+                parts.add(byMonth[month]);
+            }
+        }
+        return HurricaneBitmap.orAll(parts);
+    }
+
+    /**
+     * Finds the rows in a range of years.
+     *
+     * @param low   the first year
+     * @param high  the last year
+     * @return a new bitmap of the matching rows
+     */
+    public HurricaneBitmap years(int low, int high)
+    {
+        int from = Arrays.binarySearch(years, low);
+        int to = Arrays.binarySearch(years, high);
+        from = from < 0 ? -from - 1 : from;
+        to = to < 0 ? -to - 2 : to;
+        if (from > to)
+        {
+            return new HurricaneBitmap();
+        }
+        return HurricaneBitmap.orAll(Arrays.asList(byYear).subList(from, to + 1));
+    }
+}
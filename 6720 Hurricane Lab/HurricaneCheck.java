@@ -0,0 +1,971 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Checks that every loader and storage backend gives the same answers as
+ * the original organizer.  Each data file is read the original way, with
+ * a Scanner into Hurricane objects, and the expected answers are worked
+ * out from those objects by plain loops and stable sorts.  Every organizer
+ * is then built over each way of loading and storing the data and asked
+ * the same questions.  Run it with the data files to check, for example
+ * <pre>
+ *   java HurricaneCheck hurricanedata.txt
+ * </pre>
+ * or with no arguments for hurricanedata.txt and a generated data set.
+ * Each mismatch is printed, and the exit status is 1 if there were any.
+ *
+ * The original sorts were not stable, so sorted hurricanes with equal
+ * keys are expected in file order, as every sort here keeps them.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneCheck
+{
+    private static final int GENERATED_ROWS = 50000;
+    // small chunks, so that even short files are read in parallel
+    private static final int CHUNK_SIZE = 1 << 12;
+    private static final String[] QUERIES = {
+        "category>=3 month=aug,sep year=1990-2010 order=-speed limit=10",
+        "pressure<950 order=year",
+        "speed=100-120 category=2,3",
+        "year>=2000 order=-category,pressure,year limit=7",
+        "month=oct select=year,pressure",
+        "speed>2147483647",
+    };
+
+    // hurricanes in years far from the rest and from each other
+    private static final String[] OUTLIERS = {
+        "-2000000000 Aug 950 100 Outlier",
+        "2000000000 Sep 940 110 Farout",
+        "1 Oct 960 90 Early",
+    };
+    // lines Scanner.nextInt rejected, each with a number too large for an int
+    private static final String[] REJECTED = {
+        "99999999999 Aug 950 100 Wilma",
+        "2005 Aug -2147483649 100 Wilma",
+        "2005 Aug 950 2147483648 Wilma",
+    };
+    private static final String[] OUTLIER_QUERIES = {
+        "category>=3 month=aug,sep",
+        "year<=2000 month=oct order=year",
+    };
+
+    private static int checks;
+    private static int failures;
+
+    /**
+     * Checks data files.
+     *
+     * @param args  the data files to check; hurricanedata.txt and a
+     *              generated data set if there are none
+     * @throws IOException  if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length > 0)
+        {
+            for (String filename : args)
+            {
+                check(filename, filename);
+            }
+        }
+        else
+        {
+            check("hurricanedata.txt", "hurricanedata.txt");
+            File generated = File.createTempFile("hurricanes", ".txt");
+            generated.deleteOnExit();
+            new HurricaneDataGenerator(HurricaneFileReader.read("hurricanedata.txt"), 1)
+                .write(generated.getPath(), GENERATED_ROWS);
+            check(generated.getPath(), GENERATED_ROWS + " generated rows");
+            checkOutliers(generated.getPath());
+            generated.delete();
+            checkRejected();
+            checkCorruptSnapshots("hurricanedata.txt");
+        }
+        System.out.println(checks + " checks, " + failures + " mismatches");
+        if (failures > 0)
+        {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Checks one data file.  The file is copied first, so that the
+     * snapshot written next to it goes in the temporary directory.
+     *
+     * @param original  hurricane information
+     * @param label     what the file holds, for the report
+     * @throws IOException  if the file cannot be read or copied
+     */
+    private static void check(String original, String label) throws IOException
+    {
+        File copy = File.createTempFile("hurricanes", ".txt");
+        copy.deleteOnExit();
+        Files.copy(Paths.get(original), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        String filename = copy.getPath();
+        System.out.println("Checking " + label);
+
+        Hurricane[] reference = readReference(filename);
+        HurricaneColumns columns = HurricaneFileReader.read(filename);
+        String expected = Arrays.toString(reference);
+        expect(label, "sequential load", expected, describe(columns));
+        expect(label, "parallel load", expected,
+            describe(HurricaneFileReader.readParallel(filename, CHUNK_SIZE)));
+        expect(label, "snapshot load", expected, describe(HurricaneSnapshot.load(filename)));
+        String months = describeMonths(reference);
+        expect(label, "column month numbers", months, describeMonths(columns));
+        expect(label, "packed month numbers", months,
+            describeMonths(new HurricanePackedStore(columns)));
+        expect(label, "off-heap month numbers", months,
+            describeMonths(HurricaneOffHeapStore.allocate(columns)));
+
+        Map<String, HurricaneOrganizer<?>> organizers =
+            new LinkedHashMap<String, HurricaneOrganizer<?>>();
+        organizers.put("array from file", new HurricaneOrganizerArray(filename));
+        organizers.put("array, columns", new HurricaneOrganizerArray(columns, true));
+        organizers.put("array, parallel load", new HurricaneOrganizerArray(
+            HurricaneFileReader.readParallel(filename, CHUNK_SIZE), true));
+        organizers.put("array, packed", new HurricaneOrganizerArray(
+            new HurricanePackedStore(columns), true));
+        organizers.put("array, off-heap", new HurricaneOrganizerArray(
+            HurricaneOffHeapStore.allocate(columns), true));
+        organizers.put("array, mapped snapshot", new HurricaneOrganizerArray(
+            HurricaneOffHeapStore.open(filename), true));
+        organizers.put("list from file", new HurricaneOrganizerArrayList(filename));
+        organizers.put("list, packed", new HurricaneOrganizerArrayList(
+            new HurricanePackedStore(columns)));
+        organizers.put("list, mapped snapshot", new HurricaneOrganizerArrayList(
+            HurricaneOffHeapStore.open(filename)));
+
+        // the first organizer is checked against the reference answers and
+        // every other one against the first, so all must agree exactly
+        String first = null;
+        List<String> firstAnswers = null;
+        for (Map.Entry<String, HurricaneOrganizer<?>> organizer : organizers.entrySet())
+        {
+            List<String> answers = ask(organizer.getValue(), reference);
+            if (first == null)
+            {
+                first = organizer.getKey();
+                firstAnswers = answers;
+                checkAnswers(label + ", " + first, reference, answers);
+                continue;
+            }
+            for (int i = 0; i < answers.size(); i++)
+            {
+                expect(label + ", " + organizer.getKey(), "answer " + i + " as " + first,
+                    firstAnswers.get(i), answers.get(i));
+            }
+        }
+        new File(HurricaneSnapshot.snapshotName(filename)).delete();
+        copy.delete();
+    }
+
+    /**
+     * Checks group-by, year searches, bitmaps and queries on a data file
+     * with hurricanes added in years far from the rest, one before every
+     * row and the others after them, so that the parallel scans meet the
+     * outlying years in different chunks.
+     *
+     * @param original  hurricane information
+     * @throws IOException  if the file cannot be read or written
+     */
+    private static void checkOutliers(String original) throws IOException
+    {
+        File outliers = File.createTempFile("hurricanes", ".txt");
+        outliers.deleteOnExit();
+        List<String> lines = new ArrayList<String>();
+        lines.add(OUTLIERS[0]);
+        lines.addAll(Files.readAllLines(Paths.get(original)));
+        lines.addAll(Arrays.asList(OUTLIERS).subList(1, OUTLIERS.length));
+        Files.write(outliers.toPath(), lines);
+        String filename = outliers.getPath();
+        String label = "outlying years";
+        System.out.println("Checking " + label);
+
+        Hurricane[] reference = readReference(filename);
+        HurricaneColumns columns = HurricaneFileReader.read(filename);
+        HurricaneOrganizer<?> o = new HurricaneOrganizerArray(columns, true);
+        for (HurricaneGrouping grouping : HurricaneGrouping.values())
+        {
+            String expected = describeGroups(reference, grouping);
+            expect(label, "groupBy " + grouping, expected, describe(o.groupBy(grouping)));
+            expect(label, "sequential groupBy " + grouping, expected,
+                describe(HurricaneGroupBy.of(columns, grouping)));
+        }
+
+        // year 1 comes last in the file but early in the year index
+        expect(label, "searchYears", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getYear() <= 2000;
+                }
+            })), describe(o.searchYears(Integer.MIN_VALUE, 2000)));
+
+        HurricaneBitmapIndex bitmaps = o.getBitmapIndex();
+        expect(label, "searchMatching years", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getYear() <= 1;
+                }
+            })), describe(o.searchMatching(bitmaps.years(Integer.MIN_VALUE, 1))));
+        for (String text : OUTLIER_QUERIES)
+        {
+            HurricaneQuery query = HurricaneQuery.parse(text);
+            expect(label, "query " + text, filter(reference, matching(query)).length + " "
+                + describe(query(reference, query)), o.count(query) + " " + describe(o.query(query)));
+        }
+        outliers.delete();
+    }
+
+    /**
+     * Checks that lines the original organizer could not read stop a
+     * sequential and a parallel load with the number of the bad line.
+     *
+     * @throws IOException  if a file cannot be written
+     */
+    private static void checkRejected() throws IOException
+    {
+        File bad = File.createTempFile("hurricanes", ".txt");
+        bad.deleteOnExit();
+        String filename = bad.getPath();
+        System.out.println("Checking rejected lines");
+        for (String line : REJECTED)
+        {
+            Files.write(bad.toPath(), Arrays.asList("2005 Oct 882 150 Wilma", line));
+            String loaded;
+            try
+            {
+                loaded = describe(HurricaneFileReader.read(filename));
+            }
+            catch (IOException e)
+            {
+                loaded = e.getMessage();
+            }
+            expect("rejected lines", "sequential load of " + line, "line 2", lineOf(loaded));
+            try
+            {
+                loaded = describe(HurricaneFileReader.readParallel(filename, 8));
+            }
+            catch (IOException e)
+            {
+                loaded = e.getMessage();
+            }
+            expect("rejected lines", "parallel load of " + line, "line 2", lineOf(loaded));
+        }
+        bad.delete();
+    }
+
+    /**
+     * Checks that a snapshot damaged after it was written is not trusted,
+     * and that loading parses the text file again instead.  Each damage
+     * leaves the text file alone, so the snapshot's header still matches
+     * it.
+     *
+     * @param original  hurricane information
+     * @throws IOException  if a file cannot be read or written
+     */
+    private static void checkCorruptSnapshots(String original) throws IOException
+    {
+        File copy = File.createTempFile("hurricanes", ".txt");
+        copy.deleteOnExit();
+        Files.copy(Paths.get(original), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        String filename = copy.getPath();
+        String snapshot = HurricaneSnapshot.snapshotName(filename);
+        new File(snapshot).deleteOnExit();
+        System.out.println("Checking corrupt snapshots");
+
+        String expected = Arrays.toString(readReference(filename));
+        HurricaneColumns columns = HurricaneFileReader.read(filename);
+        String[] damages = {"truncated records", "truncated strings", "negative row count",
+            "negative string length", "string length past the end", "month code out of range"};
+        for (String damage : damages)
+        {
+            for (int open = 0; open < 2; open++)
+            {
+                HurricaneSnapshot.write(columns, filename, snapshot);
+                RandomAccessFile file = new RandomAccessFile(snapshot, "rw");
+                long length = file.length();
+                if (damage.equals("truncated records"))
+                {
+                    file.setLength(length - 7);
+                }
+                else if (damage.equals("truncated strings"))
+                {
+                    file.setLength(40);
+                }
+                else if (damage.equals("negative row count"))
+                {
+                    file.seek(24);
+                    file.writeInt(-1);
+                }
+                else if (damage.equals("negative string length"))
+                {
+                    file.seek(36);
+                    file.writeInt(-5);
+                }
+                else if (damage.equals("string length past the end"))
+                {
+                    file.seek(36);
+                    file.writeInt(Integer.MAX_VALUE);
+                }
+                else
+                {
+                    file.seek(length - 16);
+                    file.writeInt(999);
+                }
+                file.close();
+
+                // a mapped store does not read its records when opened
+                if (open == 0)
+                {
+                    expect("corrupt snapshots", "load with " + damage, expected,
+                        describe(HurricaneSnapshot.load(filename)));
+                }
+                else if (!damage.equals("month code out of range"))
+                {
+                    expect("corrupt snapshots", "mapped open with " + damage, expected,
+                        describe(HurricaneOffHeapStore.open(filename)));
+                }
+            }
+        }
+        new File(snapshot).delete();
+        copy.delete();
+    }
+
+    /**
+     * Finds the line an error message names.
+     *
+     * @param message   an error message, or the rows that were loaded
+     * @return the end of the message from "line", or all of it if it
+     *         names no line
+     */
+    private static String lineOf(String message)
+    {
+        int at = message.lastIndexOf("line ");
+        return at < 0 ? message : message.substring(at);
+    }
+
+    /**
+     * Reads a data file the way the original organizer did.
+     *
+     * @param filename  hurricane information
+     * @return the hurricanes in file order
+     * @throws IOException  if the file cannot be read
+     */
+    private static Hurricane[] readReference(String filename) throws IOException
+    {
+        ArrayList<Hurricane> hurs = new ArrayList<Hurricane>();
+        Scanner inFile = new Scanner(new File(filename));
+        while (inFile.hasNextInt())
+        {
+            int year = inFile.nextInt();
+            String month = inFile.next();
+            int pressure = inFile.nextInt();
+            int speed = inFile.nextInt();
+            String tempName = inFile.nextLine();
+            String name = "";
+            for (int k = 0; k < tempName.length(); k++)
+            {
+                char c = tempName.charAt(k);
+                if (('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z'))
+                {
+                    name += c;
+                }
+            }
+            hurs.add(new Hurricane(year, month, pressure, speed, name));
+        }
+        inFile.close();
+        return hurs.toArray(new Hurricane[0]);
+    }
+
+    /**
+     * Asks an organizer every question, in a fixed order.  Sorts come
+     * last, since searches and queries follow the current order.
+     *
+     * @param o         the organizer
+     * @param reference the hurricanes, to choose years and names to ask about
+     * @return the answers, each as text
+     */
+    private static List<String> ask(HurricaneOrganizer<?> o, Hurricane[] reference)
+    {
+        Hurricane sample = reference[reference.length / 2];
+        int year = sample.getYear();
+        String name = sample.getName();
+        List<String> answers = new ArrayList<String>();
+
+        answers.add(describe(o.query(new HurricaneQuery())));
+        answers.add(o.findMaxWindSpeed() + " " + o.findMinWindSpeed() + " "
+            + o.findMaxPressure() + " " + o.findMinPressure());
+        answers.add(o.calculateAverageWindSpeed() + " " + o.calculateAveragePressure() + " "
+            + o.calculateAverageCategory());
+        answers.add(describe(o.findStats(year - 10, year + 10, 8, 10, 2, 5)));
+        answers.add(describe(o.searchYear(year)));
+        answers.add(describe(o.searchYears(year - 5, year + 5)));
+        answers.add(describe(o.searchPressures(940, 960)));
+        answers.add(describe(o.searchWindSpeeds(100, 120)));
+        answers.add(describe(o.searchHurricaneName(name.toUpperCase())));
+        answers.add(describe(o.searchHurricaneNamePrefix(name.substring(0, 2))));
+        answers.add(describe(o.searchHurricaneNameFuzzy(name + "x", 1)));
+        answers.add(describe(o.findLargest(HurricaneField.PRESSURE, 10)));
+        answers.add(describe(o.findSmallest(HurricaneField.SPEED, 10)));
+        for (HurricaneGrouping grouping : HurricaneGrouping.values())
+        {
+            answers.add(describe(o.groupBy(grouping)));
+        }
+        HurricaneBitmapIndex bitmaps = o.getBitmapIndex();
+        answers.add(describe(o.searchMatching(bitmaps.categories(3, 5).and(bitmaps.months(8, 9)))));
+        for (String text : QUERIES)
+        {
+            HurricaneQuery query = HurricaneQuery.parse(text);
+            answers.add(o.count(query) + " " + describe(o.query(query)));
+        }
+
+        o.sortYears();
+        answers.add(describe(o.query(new HurricaneQuery())));
+        o.sortNames();
+        answers.add(describe(o.query(new HurricaneQuery())));
+        o.sortCategories();
+        answers.add(describe(o.query(new HurricaneQuery())));
+        o.sortPressures();
+        answers.add(describe(o.query(new HurricaneQuery())));
+        o.sortWindSpeeds(0, o.size() - 1);
+        answers.add(describe(o.query(new HurricaneQuery())));
+        o.sortYears();
+        o.sortWindSpeeds(0, o.size() / 2);
+        answers.add(describe(o.query(new HurricaneQuery())));
+        answers.add(describe(o.searchYear(year)));
+        o.sortBy(new HurricaneField[] {HurricaneField.CATEGORY, HurricaneField.PRESSURE,
+            HurricaneField.YEAR}, new boolean[] {true, false, false});
+        answers.add(describe(o.query(new HurricaneQuery())));
+        return answers;
+    }
+
+    /**
+     * Checks an organizer's answers against ones worked out from the
+     * hurricanes by plain loops and stable sorts, as the original
+     * organizer would have.
+     *
+     * @param where     which organizer, for the report
+     * @param reference the hurricanes in file order
+     * @param answers   the organizer's answers, from ask
+     */
+    private static void checkAnswers(String where, Hurricane[] reference, List<String> answers)
+    {
+        Hurricane sample = reference[reference.length / 2];
+        final int year = sample.getYear();
+        final String name = sample.getName();
+        int n = reference.length;
+        int i = 0;
+        expect(where, "hurricanes", describe(reference), answers.get(i++));
+
+        int maxSpeed = 0;
+        int maxPressure = 0;
+        int minSpeed = Integer.MAX_VALUE;
+        int minPressure = Integer.MAX_VALUE;
+        double speeds = 0, pressures = 0, categories = 0;
+        for (Hurricane h : reference)
+        {
+            maxSpeed = Math.max(maxSpeed, h.getSpeed());
+            maxPressure = Math.max(maxPressure, h.getPressure());
+            minSpeed = Math.min(minSpeed, h.getSpeed());
+            minPressure = Math.min(minPressure, h.getPressure());
+            speeds += h.getSpeed();
+            pressures += h.getPressure();
+            categories += h.getCategory();
+        }
+        expect(where, "max and min", maxSpeed + " " + minSpeed + " " + maxPressure + " "
+            + minPressure, answers.get(i++));
+        expect(where, "averages", speeds / reference.length + " " + pressures / reference.length
+            + " " + categories / reference.length, answers.get(i++));
+
+        HurricaneStats stats = new HurricaneStats();
+        for (Hurricane h : reference)
+        {
+            if (Math.abs(h.getYear() - year) <= 10 && h.getMonthNumber() >= 8
+                && h.getMonthNumber() <= 10 && h.getCategory() >= 2)
+            {
+                stats.add(h.getYear(), h.getMonthNumber(), h.getPressure(), h.getSpeed(),
+                    h.getCategory());
+            }
+        }
+        expect(where, "findStats", describe(stats), answers.get(i++));
+
+        expect(where, "searchYear", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getYear() == year;
+                }
+            })), answers.get(i++));
+        expect(where, "searchYears", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return Math.abs(h.getYear() - year) <= 5;
+                }
+            })), answers.get(i++));
+        expect(where, "searchPressures", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getPressure() >= 940 && h.getPressure() <= 960;
+                }
+            })), answers.get(i++));
+        expect(where, "searchWindSpeeds", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getSpeed() >= 100 && h.getSpeed() <= 120;
+                }
+            })), answers.get(i++));
+        expect(where, "searchHurricaneName", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getName().equalsIgnoreCase(name);
+                }
+            })), answers.get(i++));
+        expect(where, "searchHurricaneNamePrefix", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getNameKey().startsWith(Hurricane.nameKey(name.substring(0, 2)));
+                }
+            })), answers.get(i++));
+        expect(where, "searchHurricaneNameFuzzy", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return edits(h.getNameKey(), Hurricane.nameKey(name + "x")) <= 1;
+                }
+            })), answers.get(i++));
+
+        expect(where, "findLargest", describe(Arrays.copyOf(
+            sorted(reference, HurricaneField.PRESSURE, true), Math.min(10, reference.length))),
+            answers.get(i++));
+        expect(where, "findSmallest", describe(Arrays.copyOf(
+            sorted(reference, HurricaneField.SPEED, false), Math.min(10, reference.length))),
+            answers.get(i++));
+
+        for (HurricaneGrouping grouping : HurricaneGrouping.values())
+        {
+            expect(where, "groupBy " + grouping, describeGroups(reference, grouping),
+                answers.get(i++));
+        }
+
+        expect(where, "searchMatching", describe(filter(reference, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getCategory() >= 3
+                        && (h.getMonthNumber() == 8 || h.getMonthNumber() == 9);
+                }
+            })), answers.get(i++));
+
+        for (String text : QUERIES)
+        {
+            Hurricane[] result = query(reference, HurricaneQuery.parse(text));
+            HurricaneQuery counting = HurricaneQuery.parse(text);
+            int count = filter(reference, matching(counting)).length;
+            expect(where, "query " + text, count + " " + describe(result), answers.get(i++));
+        }
+
+        expect(where, "sortYears", describe(sorted(reference, HurricaneField.YEAR, false)),
+            answers.get(i++));
+        Hurricane[] byName = reference.clone();
+        Arrays.sort(byName, new Comparator<Hurricane>()
+            {
+                public int compare(Hurricane a, Hurricane b)
+                {
+                    return a.getNameKey().compareTo(b.getNameKey());
+                }
+            });
+        expect(where, "sortNames", describe(byName), answers.get(i++));
+        expect(where, "sortCategories", describe(sorted(reference, HurricaneField.CATEGORY, true)),
+            answers.get(i++));
+        expect(where, "sortPressures", describe(sorted(reference, HurricaneField.PRESSURE, true)),
+            answers.get(i++));
+        expect(where, "sortWindSpeeds", describe(sorted(reference, HurricaneField.SPEED, false)),
+            answers.get(i++));
+        Hurricane[] partly = sorted(reference, HurricaneField.YEAR, false);
+        Arrays.sort(partly, 0, n / 2 + 1, comparator(new HurricaneField[] {HurricaneField.SPEED},
+            new boolean[] {false}));
+        expect(where, "sortWindSpeeds within", describe(partly), answers.get(i++));
+        expect(where, "searchYear after sorting", describe(filter(partly, new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    return h.getYear() == year;
+                }
+            })), answers.get(i++));
+        Hurricane[] byFields = reference.clone();
+        Arrays.sort(byFields, comparator(new HurricaneField[] {HurricaneField.CATEGORY,
+            HurricaneField.PRESSURE, HurricaneField.YEAR}, new boolean[] {true, false, false}));
+        expect(where, "sortBy", describe(byFields), answers.get(i++));
+    }
+
+    /**
+     * Decides whether to keep a hurricane.
+     */
+    private interface Filter
+    {
+        /**
+         * Decides whether to keep a hurricane.
+         *
+         * @param h the hurricane
+         * @return true to keep it
+         */
+        boolean keep(Hurricane h);
+    }
+
+    /**
+     * Keeps some hurricanes.
+     *
+     * @param hurs      the hurricanes
+     * @param filter    which to keep
+     * @return the hurricanes kept, in their order
+     */
+    private static Hurricane[] filter(Hurricane[] hurs, Filter filter)
+    {
+        ArrayList<Hurricane> kept = new ArrayList<Hurricane>();
+        for (Hurricane h : hurs)
+        {
+            if (filter.keep(h))
+            {
+                kept.add(h);
+            }
+        }
+        return kept.toArray(new Hurricane[0]);
+    }
+
+    /**
+     * Makes a filter that keeps the hurricanes a query matches.
+     *
+     * @param query the query
+     * @return the filter
+     */
+    private static Filter matching(final HurricaneQuery query)
+    {
+        return new Filter()
+            {
+                public boolean keep(Hurricane h)
+                {
+                    for (HurricaneField field : HurricaneField.values())
+                    {
+                        int value = field.of(h);
+                        int[] values = query.getValues(field);
+                        if (value < query.getLow(field) || value > query.getHigh(field)
+                            || (values != null && Arrays.binarySearch(values, value) < 0))
+                        {
+                            return false;
+                        }
+                    }
+                    return query.getName() == null;
+                }
+            };
+    }
+
+    /**
+     * Answers a query without names by filtering, stable sorting and
+     * cutting the hurricanes.
+     *
+     * @param hurs  the hurricanes in file order
+     * @param query the query
+     * @return the answer
+     */
+    private static Hurricane[] query(Hurricane[] hurs, HurricaneQuery query)
+    {
+        Hurricane[] found = filter(hurs, matching(query));
+        if (query.getOrderFields().length > 0)
+        {
+            Arrays.sort(found, comparator(query.getOrderFields(), query.getOrderDescending()));
+        }
+        return Arrays.copyOf(found, Math.min(found.length, query.getLimit()));
+    }
+
+    /**
+     * Sorts hurricanes by one field, keeping equal ones in their order.
+     *
+     * @param hurs          the hurricanes
+     * @param field         the field
+     * @param descending    true to put the largest values first
+     * @return a sorted copy
+     */
+    private static Hurricane[] sorted(Hurricane[] hurs, HurricaneField field, boolean descending)
+    {
+        Hurricane[] copy = hurs.clone();
+        Arrays.sort(copy, comparator(new HurricaneField[] {field}, new boolean[] {descending}));
+        return copy;
+    }
+
+    /**
+     * Makes a comparator of several fields.
+     *
+     * @param fields        the fields, most significant first
+     * @param descending    for each field, true to put its largest values first
+     * @return the comparator
+     */
+    private static Comparator<Hurricane> comparator(final HurricaneField[] fields,
+        final boolean[] descending)
+    {
+        return new Comparator<Hurricane>()
+            {
+                public int compare(Hurricane a, Hurricane b)
+                {
+                    for (int k = 0; k < fields.length; k++)
+                    {
+                        int c = Integer.compare(fields[k].of(a), fields[k].of(b));
+                        if (c != 0)
+                        {
+                            return descending[k] ? -c : c;
+                        }
+                    }
+                    return 0;
+                }
+            };
+    }
+
+    /**
+     * Groups hurricanes by hand, in a sorted map, and writes the groups
+     * as text.
+     *
+     * @param hurs      the hurricanes
+     * @param grouping  how to group them
+     * @return the label, count and speed and pressure statistics of each group
+     */
+    private static String describeGroups(Hurricane[] hurs, HurricaneGrouping grouping)
+    {
+        TreeMap<Integer, HurricaneStats> groups = new TreeMap<Integer, HurricaneStats>();
+        for (Hurricane h : hurs)
+        {
+            int key = groupOf(grouping, h);
+            if (!groups.containsKey(key))
+            {
+                groups.put(key, new HurricaneStats());
+            }
+            groups.get(key).add(h.getYear(), h.getMonthNumber(), h.getPressure(),
+                h.getSpeed(), h.getCategory());
+        }
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<Integer, HurricaneStats> group : groups.entrySet())
+        {
+            text.append(grouping.label(group.getKey())).append(' ')
+                .append(describeGroup(group.getValue())).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Finds the group of a hurricane.
+     *
+     * @param grouping  how hurricanes are grouped
+     * @param h         the hurricane
+     * @return the key of its group
+     */
+    private static int groupOf(HurricaneGrouping grouping, Hurricane h)
+    {
+        switch (grouping)
+        {
+            case YEAR:
+                return h.getYear();
+            case DECADE:
+                return Math.floorDiv(h.getYear(), 10) * 10;
+            case MONTH:
+                return h.getMonthNumber();
+            default:
+                return h.getCategory();
+        }
+    }
+
+    /**
+     * Counts the letters to insert, delete or change to turn one word
+     * into another.
+     *
+     * @param a one word
+     * @param b the other word
+     * @return the edit distance
+     */
+    private static int edits(String a, String b)
+    {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++)
+        {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++)
+        {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++)
+            {
+                int change = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(change, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Writes search results as text.
+     *
+     * @param result    an array or list of hurricanes, or null for none
+     * @return the hurricanes as text, or "none"
+     */
+    private static String describe(Object result)
+    {
+        if (result == null)
+        {
+            return "none";
+        }
+        if (result instanceof Hurricane[])
+        {
+            Hurricane[] hurs = (Hurricane[])result;
+            return hurs.length == 0 ? "none" : Arrays.toString(hurs);
+        }
+        List<?> hurs = (List<?>)result;
+        return hurs.isEmpty() ? "none" : hurs.toString();
+    }
+
+    /**
+     * Writes every row of a store as text.
+     *
+     * @param store the hurricanes
+     * @return the hurricanes as text
+     */
+    private static String describe(HurricaneStore store)
+    {
+        Hurricane[] hurs = new Hurricane[store.size()];
+        for (int row = 0; row < hurs.length; row++)
+        {
+            hurs[row] = store.toHurricane(row);
+        }
+        return Arrays.toString(hurs);
+    }
+
+    /**
+     * Writes the month number of every hurricane as text.
+     *
+     * @param hurs  the hurricanes
+     * @return the month numbers, in order
+     */
+    private static String describeMonths(Hurricane[] hurs)
+    {
+        StringBuilder text = new StringBuilder();
+        for (Hurricane h : hurs)
+        {
+            text.append(h.getMonthNumber()).append(' ');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes the month number of every row of a store as text.
+     *
+     * @param store the hurricanes
+     * @return the month numbers, in row order
+     */
+    private static String describeMonths(HurricaneStore store)
+    {
+        StringBuilder text = new StringBuilder();
+        for (int row = 0; row < store.size(); row++)
+        {
+            text.append(store.getMonthNumber(row)).append(' ');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes statistics as text.
+     *
+     * @param stats the statistics
+     * @return the count and each field's minimum, maximum and sum
+     */
+    private static String describe(HurricaneStats stats)
+    {
+        StringBuilder text = new StringBuilder().append(stats.getCount());
+        for (HurricaneField field : HurricaneField.values())
+        {
+            text.append(' ').append(field).append(' ').append(stats.getMin(field))
+                .append(' ').append(stats.getMax(field)).append(' ').append(stats.getSum(field));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes the speed and pressure statistics of a group as text.
+     *
+     * @param stats the group's statistics
+     * @return the count and the speed and pressure minimum, maximum and sum
+     */
+    private static String describeGroup(HurricaneStats stats)
+    {
+        return stats.getCount()
+            + " " + stats.getMin(HurricaneField.SPEED) + " " + stats.getMax(HurricaneField.SPEED)
+            + " " + stats.getSum(HurricaneField.SPEED)
+            + " " + stats.getMin(HurricaneField.PRESSURE)
+            + " " + stats.getMax(HurricaneField.PRESSURE)
+            + " " + stats.getSum(HurricaneField.PRESSURE);
+    }
+
+    /**
+     * Writes groups as text, one line per group.
+     *
+     * @param groups    the groups
+     * @return the label, count and speed and pressure statistics of each group
+     */
+    private static String describe(HurricaneGroupBy groups)
+    {
+        StringBuilder text = new StringBuilder();
+        for (int key : groups.getKeys())
+        {
+            text.append(groups.getGrouping().label(key)).append(' ').append(groups.getCount(key))
+                .append(' ').append(groups.getMin(key, HurricaneField.SPEED))
+                .append(' ').append(groups.getMax(key, HurricaneField.SPEED))
+                .append(' ').append(groups.getSum(key, HurricaneField.SPEED))
+                .append(' ').append(groups.getMin(key, HurricaneField.PRESSURE))
+                .append(' ').append(groups.getMax(key, HurricaneField.PRESSURE))
+                .append(' ').append(groups.getSum(key, HurricaneField.PRESSURE)).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Compares an answer with the expected one and reports a mismatch.
+     *
+     * @param where     which data and organizer, for the report
+     * @param what      which question, for the report
+     * @param expected  the expected answer
+     * @param actual    the answer given
+     */
+    private static void expect(String where, String what, String expected, String actual)
+    {
+        checks++;
+        if (!expected.equals(actual))
+        {
+            failures++;
+            System.out.println("MISMATCH " + where + ": " + what);
+            System.out.println("  expected " + abbreviate(expected));
+            System.out.println("  but got  " + abbreviate(actual));
+        }
+    }
+
+    /**
+     * Shortens long text for the report.
+     *
+     * @param text  the text
+     * @return the text, or its start if it is long
+     */
+    private static String abbreviate(String text)
+    {
+        return text.length() <= 300 ? text : text.substring(0, 300) + "...";
+    }
+}
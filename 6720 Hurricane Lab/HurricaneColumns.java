@@ -0,0 +1,402 @@
+import java.util.*;
+
+/**
+ * Stores hurricane data column by column instead of as Hurricane objects.
+ * Year, pressure, speed and category each live in their own int array,
+ * and months and names are kept as codes into shared dictionaries, so each
+ * distinct month and name String exists once and is shared by every row
+ * and every Hurricane built from it.
+ * Names are also ranked in lower case once, so sorting and looking up
+ * names compares ints instead of Strings.
+ * Scans read contiguous primitive arrays, and Hurricane objects are only
+ * built when a row is asked for.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneColumns implements HurricaneStore
+{
+    private int[] years, monthIds, pressures, speeds, categories, nameIds;
+    private int size;
+    private HurricaneDictionary months, names;
+    // the calendar number of each month code; volatile so that a table
+    // is only seen by other threads once it is filled
+    private volatile int[] monthNumbers = new int[0];
+    // lower case ranks of the names, rebuilt when names are added;
+    // volatile so parallel readers see a fully built ranking
+    private volatile HurricaneNameRanks nameRanks;
+
+    /**
+     * Initializes an empty set of columns.
+     */
+    public HurricaneColumns()
+    {
+        this(16);
+    }
+
+    /**
+     * Initializes an empty set of columns with room for a number of rows.
+     *
+     * @param capacity  the number of rows to allocate up front
+     */
+    public HurricaneColumns(int capacity)
+    {
+        capacity = Math.max(capacity, 1);
+        years = new int[capacity];
+        monthIds = new int[capacity];
+        pressures = new int[capacity];
+        speeds = new int[capacity];
+        categories = new int[capacity];
+        nameIds = new int[capacity];
+        months = new HurricaneDictionary();
+        names = new HurricaneDictionary();
+    }
+
+    /**
+     * Appends a row.
+     *
+     * @param year      year the hurricane took place
+     * @param month     month in String format
+     * @param pressure  hurricane's pressure
+     * @param speed     hurricane's speed in knots
+     * @param name      hurricane's name
+     */
+    public void add(int year, String month, int pressure, int speed, String name)
+    {
+        if (size == years.length)
+        {
+            grow();
+        }
+        years[size] = year;
+        monthIds[size] = months.encode(month);
+        pressures[size] = pressure;
+        speeds[size] = speed;
+        categories[size] = Hurricane.categoryForSpeed(speed);
+        nameIds[size] = names.encode(name);
+        size++;
+    }
+
+    /**
+     * Appends a row whose month and name are already encoded with this
+     * object's dictionaries.
+     *
+     * @param year      year the hurricane took place
+     * @param monthId   code of the month in getMonths()
+     * @param pressure  hurricane's pressure
+     * @param speed     hurricane's speed in knots
+     * @param nameId    code of the name in getNames()
+     */
+    public void addCodes(int year, int monthId, int pressure, int speed, int nameId)
+    {
+        if (size == years.length)
+        {
+            grow();
+        }
+        years[size] = year;
+        monthIds[size] = monthId;
+        pressures[size] = pressure;
+        speeds[size] = speed;
+        categories[size] = Hurricane.categoryForSpeed(speed);
+        nameIds[size] = nameId;
+        size++;
+    }
+
+    /**
+     * Appends the data of a Hurricane object as a row.
+     *
+     * @param h the hurricane to copy
+     */
+    public void add(Hurricane h)
+    {
+        add(h.getYear(), h.getMonth(), h.getPressure(), h.getSpeed(), h.getName());
+    }
+
+    /**
+     * Appends every row of another set of columns, translating its month
+     * and name codes into this object's dictionaries.
+     *
+     * @param other the rows to append, in their order
+     */
+    public void append(HurricaneColumns other)
+    {
+        int[] monthMap = remap(other.months, months);
+        int[] nameMap = remap(other.names, names);
+        while (size + other.size > years.length)
+        {
+            grow();
+        }
+        System.arraycopy(other.years, 0, years, size, other.size);
+        System.arraycopy(other.pressures, 0, pressures, size, other.size);
+        System.arraycopy(other.speeds, 0, speeds, size, other.size);
+        System.arraycopy(other.categories, 0, categories, size, other.size);
+        for (int i = 0; i < other.size; i++)
+        {
+            monthIds[size + i] = monthMap[other.monthIds[i]];
+            nameIds[size + i] = nameMap[other.nameIds[i]];
+        }
+        size += other.size;
+    }
+
+    /**
+     * Encodes every string of one dictionary into another.
+     *
+     * @param from  the dictionary whose codes are translated
+     * @param to    the dictionary to encode into
+     * @return the code in to for each code in from
+     */
+    private static int[] remap(HurricaneDictionary from, HurricaneDictionary to)
+    {
+        int[] map = new int[from.size()];
+        for (int code = 0; code < map.length; code++)
+        {
+            map[code] = to.encode(from.decode(code));
+        }
+        return map;
+    }
+
+    /**
+     * Doubles the capacity of every column.
+     */
+    private void grow()
+    {
+        int capacity = years.length * 2;
+        years = Arrays.copyOf(years, capacity);
+        monthIds = Arrays.copyOf(monthIds, capacity);
+        pressures = Arrays.copyOf(pressures, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        nameIds = Arrays.copyOf(nameIds, capacity);
+    }
+
+    /**
+     * Finds the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Finds the dictionary of month strings.
+     *
+     * @return the month dictionary
+     */
+    public HurricaneDictionary getMonths()
+    {
+        return months;
+    }
+
+    /**
+     * Finds the dictionary of hurricane names.
+     *
+     * @return the name dictionary
+     */
+    public HurricaneDictionary getNames()
+    {
+        return names;
+    }
+
+    /**
+     * Finds the year of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's year
+     */
+    public int getYear(int row)
+    {
+        return years[row];
+    }
+
+    /**
+     * Finds the month of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's month
+     */
+    public String getMonth(int row)
+    {
+        return months.decode(monthIds[row]);
+    }
+
+    /**
+     * Finds the month code of a row.
+     *
+     * @param row   the row index
+     * @return the code of the hurricane's month in getMonths()
+     */
+    public int getMonthId(int row)
+    {
+        return monthIds[row];
+    }
+
+    /**
+     * Finds the calendar number of the month of a row.  Each month code is
+     * parsed once, so this is an array lookup.
+     *
+     * @param row   the row index
+     * @return the month as 1 to 12, or 0 if it is not recognized
+     */
+    public int getMonthNumber(int row)
+    {
+        int[] numbers = monthNumbers;
+        if (numbers.length != months.size())
+        {
+            int known = numbers.length;
+            numbers = Arrays.copyOf(numbers, months.size());
+            for (int id = known; id < numbers.length; id++)
+            {
+                numbers[id] = Hurricane.monthNumber(months.decode(id));
+            }
+            monthNumbers = numbers;
+        }
+        return numbers[monthIds[row]];
+    }
+
+    /**
+     * Finds the air pressure of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's pressure
+     */
+    public int getPressure(int row)
+    {
+        return pressures[row];
+    }
+
+    /**
+     * Finds the speed of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's speed in knots
+     */
+    public int getSpeed(int row)
+    {
+        return speeds[row];
+    }
+
+    /**
+     * Finds the category of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's category
+     */
+    public int getCategory(int row)
+    {
+        return categories[row];
+    }
+
+    /**
+     * Finds the name of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's name
+     */
+    public String getName(int row)
+    {
+        return names.decode(nameIds[row]);
+    }
+
+    /**
+     * Finds the name code of a row.
+     *
+     * @param row   the row index
+     * @return the code of the hurricane's name in getNames()
+     */
+    public int getNameId(int row)
+    {
+        return nameIds[row];
+    }
+
+    /**
+     * Finds the lower case name of a row.  Rows whose names differ only
+     * in case share the same key String.
+     *
+     * @param row   the row index
+     * @return the hurricane's name key, as Hurricane.nameKey gives it
+     */
+    public String getNameKey(int row)
+    {
+        return ranks().keyOf(nameIds[row]);
+    }
+
+    /**
+     * Finds where the name of a row falls among the distinct names,
+     * ignoring case.  Comparing ranks orders rows the same way as
+     * Hurricane.compareNameTo, without comparing any Strings.
+     *
+     * @param row   the row index
+     * @return the index of the row's name key in getNameKeys()
+     */
+    public int getNameRank(int row)
+    {
+        return ranks().rankOf(nameIds[row]);
+    }
+
+    /**
+     * Finds the distinct lower case names.
+     *
+     * @return the name keys in ascending order; callers must not change it
+     */
+    public String[] getNameKeys()
+    {
+        return ranks().getKeys();
+    }
+
+    /**
+     * Ranks the names the first time the ranks are needed after names
+     * were added.
+     *
+     * @return the current name ranks
+     */
+    private HurricaneNameRanks ranks()
+    {
+        HurricaneNameRanks ranks = HurricaneNameRanks.of(nameRanks, names);
+        nameRanks = ranks;
+        return ranks;
+    }
+
+    /**
+     * Builds a Hurricane object for a row.
+     *
+     * @param row   the row index
+     * @return a new Hurricane holding the row's data
+     */
+    public Hurricane toHurricane(int row)
+    {
+        return new Hurricane(years[row], getMonth(row), pressures[row],
+            speeds[row], getName(row), getNameKey(row));
+    }
+
+    /**
+     * Builds Hurricane objects for every row, in row order.
+     *
+     * @return an array of new Hurricane objects
+     */
+    public Hurricane[] toArray()
+    {
+        Hurricane[] hurs = new Hurricane[size];
+        for (int i = 0; i < size; i++)
+        {
+            hurs[i] = toHurricane(i);
+        }
+        return hurs;
+    }
+
+    /**
+     * Builds Hurricane objects for every row, in row order.
+     *
+     * @return an ArrayList of new Hurricane objects
+     */
+    public ArrayList<Hurricane> toArrayList()
+    {
+        ArrayList<Hurricane> hurs = new ArrayList<Hurricane>(size);
+        for (int i = 0; i < size; i++)
+        {
+            hurs.add(toHurricane(i));
+        }
+        return hurs;
+    }
+}
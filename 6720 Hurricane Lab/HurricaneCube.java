@@ -0,0 +1,269 @@
+import java.util.*;
+
+/**
+ * A pre-aggregated year by month by category cube of hurricane data.
+ * Each cell holds the count of its hurricanes and the sum, minimum and
+ * maximum of their speeds and pressures.  Statistics over any box of
+ * years, months and categories, including the whole data set, are found
+ * by combining cells, so their cost depends on the number of distinct
+ * years, not on the number of hurricanes.
+ *
+ * Months are calendar numbers with 0 for an unrecognized month, and
+ * categories run from 0 to 5.  The cube is built in one pass by of, and
+ * organizers build it again whenever they load data; it is never updated
+ * in place.  Each distinct year gets a slice of cells when its first
+ * hurricane is added.  A year's slice is found through a table indexed
+ * by year over a window of at most MAX_DENSE_YEARS years; years outside
+ * the window, such as a bad year far from the rest, are found through a
+ * map instead, so they cost one slice and not the years between.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneCube
+{
+    private static final int MONTHS = 13;
+    private static final int CATEGORIES = 6;
+    private static final int YEAR_CELLS = MONTHS * CATEGORIES;
+    // the widest range of years looked up through the table
+    private static final int MAX_DENSE_YEARS = 1 << 12;
+
+    // the year of the first entry of yearSlots
+    private int baseYear;
+    // the slice of each year from baseYear on, or -1 if it has none
+    private int[] yearSlots;
+    // the slices of years outside the range of yearSlots
+    private HashMap<Integer, Integer> sparseSlots;
+    // the year of each slice
+    private int[] slotYears;
+    private int slots;
+    private long[] count;
+    private int[] minSpeed, maxSpeed, minPressure, maxPressure;
+    private long[] sumSpeed, sumPressure;
+
+    /**
+     * Initializes an empty cube.
+     */
+    private HurricaneCube()
+    {
+        yearSlots = new int[0];
+        sparseSlots = new HashMap<Integer, Integer>();
+        slotYears = new int[0];
+        count = new long[0];
+        minSpeed = new int[0];
+        maxSpeed = new int[0];
+        minPressure = new int[0];
+        maxPressure = new int[0];
+        sumSpeed = new long[0];
+        sumPressure = new long[0];
+    }
+
+    /**
+     * Builds a cube of every row of a store.
+     *
+     * @param store the hurricanes
+     * @return the cube
+     */
+    public static HurricaneCube of(HurricaneStore store)
+    {
+        HurricaneCube cube = new HurricaneCube();
+        for (int row = 0; row < store.size(); row++)
+        {
+            cube.add(store.getYear(row), store.getMonthNumber(row),
+                store.getPressure(row), store.getSpeed(row), store.getCategory(row));
+        }
+        return cube;
+    }
+
+    /**
+     * Adds one hurricane to its cell.
+     *
+     * @param year      the hurricane's year
+     * @param month     the hurricane's month as 1 to 12, or 0 if unknown
+     * @param pressure  the hurricane's pressure
+     * @param speed     the hurricane's speed in knots
+     * @param category  the hurricane's category
+     */
+    private void add(int year, int month, int pressure, int speed, int category)
+    {
+        if (month < 0 || month >= MONTHS || category < 0 || category >= CATEGORIES)
+        {
+            throw new IllegalArgumentException("Month " + month + " or category "
+                + category + " is out of range");
+        }
+        int cell = (slotFor(year) * MONTHS + month) * CATEGORIES + category;
+        count[cell]++;
+        minSpeed[cell] = Math.min(minSpeed[cell], speed);
+        maxSpeed[cell] = Math.max(maxSpeed[cell], speed);
+        sumSpeed[cell] += speed;
+        minPressure[cell] = Math.min(minPressure[cell], pressure);
+        maxPressure[cell] = Math.max(maxPressure[cell], pressure);
+        sumPressure[cell] += pressure;
+    }
+
+    /**
+     * Finds the slice of a year, giving the year a new slice if it has
+     * none yet.
+     *
+     * @param year  a year
+     * @return the year's slice
+     */
+    private int slotFor(int year)
+    {
+        long offset = (long)year - baseYear;
+        if (offset >= 0 && offset < yearSlots.length && yearSlots[(int)offset] >= 0)
+        {
+            return yearSlots[(int)offset];
+        }
+        Integer sparse = sparseSlots.get(year);
+        if (sparse != null)
+        {
+            return sparse;
+        }
+
+        int slot = newSlot(year);
+        if (widenYears(year))
+        {
+            yearSlots[year - baseYear] = slot;
+        }
+        else
+        {
+            sparseSlots.put(year, slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Widens the year table to cover a year, at least doubling it so that
+     * years arriving in any order are copied O(1) times each on average.
+     *
+     * @param year  the year to cover
+     * @return true if the table covers the year, or false if covering it
+     *         would span more than MAX_DENSE_YEARS years
+     */
+    private boolean widenYears(int year)
+    {
+        if (yearSlots.length == 0)
+        {
+            baseYear = year;
+            yearSlots = new int[16];
+            Arrays.fill(yearSlots, -1);
+            return true;
+        }
+        long end = (long)baseYear + yearSlots.length;
+        if (year >= baseYear && year < end)
+        {
+            return true;
+        }
+        long span = Math.max(end, year + 1L) - Math.min(baseYear, year);
+        if (span > MAX_DENSE_YEARS)
+        {
+            return false;
+        }
+        int length = (int)Math.min(MAX_DENSE_YEARS, Math.max(span, 2L * yearSlots.length));
+        // room to grow is left on the side the new year is on
+        int newBase = year < baseYear ? (int)(end - length) : baseYear;
+        int[] grown = new int[length];
+        Arrays.fill(grown, -1);
+        System.arraycopy(yearSlots, 0, grown, baseYear - newBase, yearSlots.length);
+        yearSlots = grown;
+        baseYear = newBase;
+        return true;
+    }
+
+    /**
+     * Adds an empty slice for a year, doubling the cells when they are
+     * full.
+     *
+     * @param year  the slice's year
+     * @return the new slice
+     */
+    private int newSlot(int year)
+    {
+        if (slots == slotYears.length)
+        {
+            int capacity = Math.max(2 * slots, 16);
+            int cells = capacity * YEAR_CELLS;
+            slotYears = Arrays.copyOf(slotYears, capacity);
+            count = Arrays.copyOf(count, cells);
+            sumSpeed = Arrays.copyOf(sumSpeed, cells);
+            sumPressure = Arrays.copyOf(sumPressure, cells);
+            minSpeed = grow(minSpeed, cells, Integer.MAX_VALUE);
+            maxSpeed = grow(maxSpeed, cells, Integer.MIN_VALUE);
+            minPressure = grow(minPressure, cells, Integer.MAX_VALUE);
+            maxPressure = grow(maxPressure, cells, Integer.MIN_VALUE);
+        }
+        slotYears[slots] = year;
+        return slots++;
+    }
+
+    /**
+     * Copies an int array into a larger one, filling the new cells.
+     *
+     * @param cells     the old values
+     * @param length    the new length
+     * @param empty     the value of the new cells
+     * @return the new array
+     */
+    private static int[] grow(int[] cells, int length, int empty)
+    {
+        int[] grown = Arrays.copyOf(cells, length);
+        Arrays.fill(grown, cells.length, length, empty);
+        return grown;
+    }
+
+    /**
+     * Finds the statistics of every hurricane in the cube.
+     *
+     * @return the statistics
+     */
+    public HurricaneStats stats()
+    {
+        return stats(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, MONTHS - 1, 0, CATEGORIES - 1);
+    }
+
+    /**
+     * Finds the statistics of the hurricanes in a box of years, months and
+     * categories, by combining the box's cells.  Every bound is included.
+     *
+     * @param lowYear       the first year
+     * @param highYear      the last year
+     * @param lowMonth      the first month, as 1 to 12
+     * @param highMonth     the last month, as 1 to 12
+     * @param lowCategory   the lowest category
+     * @param highCategory  the highest category
+     * @return the statistics of the hurricanes in the box
+     */
+    public HurricaneStats stats(int lowYear, int highYear, int lowMonth, int highMonth,
+        int lowCategory, int highCategory)
+    {
+        HurricaneStats stats = new HurricaneStats();
+        lowMonth = Math.max(lowMonth, 0);
+        highMonth = Math.min(highMonth, MONTHS - 1);
+        lowCategory = Math.max(lowCategory, 0);
+        highCategory = Math.min(highCategory, CATEGORIES - 1);
+        for (int slot = 0; slot < slots; slot++)
+        {
+            int year = slotYears[slot];
+            if (year < lowYear || year > highYear)
+            {
+                continue;
+            }
+            for (int month = lowMonth; month <= highMonth; month++)
+            {
+                int cell = (slot * MONTHS + month) * CATEGORIES + lowCategory;
+                for (int category = lowCategory; category <= highCategory; category++, cell++)
+                {
+                    if (count[cell] > 0)
+                    {
+                        stats.addGroup(count[cell], year, month, category,
+                            minPressure[cell], maxPressure[cell], sumPressure[cell],
+                            minSpeed[cell], maxSpeed[cell], sumSpeed[cell]);
+                    }
+                }
+            }
+        }
+        return stats;
+    }
+}
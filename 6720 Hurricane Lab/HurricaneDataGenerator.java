@@ -0,0 +1,339 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Writes synthetic hurricane data files of any size, in the same format
+ * that HurricaneFileReader parses, for load testing.  Run it as
+ * <pre>
+ *   java HurricaneDataGenerator out.txt rows [seed] [distinctNames] [skew]
+ * </pre>
+ *
+ * Each row starts from a random row of a sample file, so the years,
+ * months, pressures and speeds follow the real data and stay consistent
+ * with each other; the pressure and speed are then nudged slightly.
+ * Names come from a pool of a chosen number of distinct names, the sample
+ * names first and then variants of them with letters added, and are
+ * picked with a Zipf-like skew: 0 picks every name equally often, and
+ * larger values make the first names more and more common.
+ *
+ * Rows are generated in fixed-size chunks, each with its own random
+ * generator derived from the seed, so a seed always gives the same file.
+ * Chunks are formatted into byte buffers in parallel on the fork/join
+ * common pool and written to a FileChannel in order.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneDataGenerator
+{
+    private static final int CHUNK_ROWS = 1 << 16;
+    // enough room for the longest row this generator writes
+    private static final int MAX_ROW_BYTES = 96;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private HurricaneColumns sample;
+    private byte[][] months, names;
+    private long seed;
+    private int distinctNames;
+    private double skew;
+
+    /**
+     * Initializes a generator that draws from a sample of real data.
+     *
+     * @param sample    the rows to base the data on; must not be empty
+     * @param seed      the seed for every random choice
+     */
+    public HurricaneDataGenerator(HurricaneColumns sample, long seed)
+    {
+        if (sample.size() == 0)
+        {
+            throw new IllegalArgumentException("The sample has no rows");
+        }
+        this.sample = sample;
+        this.seed = seed;
+        months = bytesOf(sample.getMonths());
+        names = bytesOf(sample.getNames());
+        distinctNames = names.length;
+        skew = 0;
+    }
+
+    /**
+     * Copies every string of a dictionary as bytes, in code order.
+     *
+     * @param dict  the strings
+     * @return the bytes of each string
+     */
+    private static byte[][] bytesOf(HurricaneDictionary dict)
+    {
+        byte[][] bytes = new byte[dict.size()][];
+        for (int code = 0; code < bytes.length; code++)
+        {
+            bytes[code] = dict.decode(code).getBytes(StandardCharsets.ISO_8859_1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Sets how many distinct names to use.  Fewer names means more rows
+     * share each name.
+     *
+     * @param distinctNames the size of the name pool, at least 1
+     */
+    public void setDistinctNames(int distinctNames)
+    {
+        if (distinctNames < 1)
+        {
+            throw new IllegalArgumentException("distinctNames must be at least 1");
+        }
+        this.distinctNames = distinctNames;
+    }
+
+    /**
+     * Sets how unevenly names are picked.
+     *
+     * @param skew  the Zipf exponent: 0 for uniform, 1 for classic Zipf
+     */
+    public void setSkew(double skew)
+    {
+        if (skew < 0)
+        {
+            throw new IllegalArgumentException("skew must not be negative");
+        }
+        this.skew = skew;
+    }
+
+    /**
+     * Writes a data file.
+     *
+     * @param filename  the file to write, replaced if it exists
+     * @param rows      the number of rows to write
+     * @throws IOException  if the file cannot be written
+     */
+    public void write(String filename, long rows) throws IOException
+    {
+        FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try
+        {
+            long chunks = (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+            int inFlight = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+            ArrayDeque<ForkJoinTask<ByteBuffer>> pending = new ArrayDeque<ForkJoinTask<ByteBuffer>>();
+            long next = 0;
+            while (next < chunks || !pending.isEmpty())
+            {
+                while (next < chunks && pending.size() < inFlight)
+                {
+                    long first = next * CHUNK_ROWS;
+                    pending.add(ForkJoinPool.commonPool().submit(
+                            new ChunkTask(next, (int)Math.min(CHUNK_ROWS, rows - first))));
+                    next++;
+                }
+                ByteBuffer chunk = pending.poll().join();
+                while (chunk.hasRemaining())
+                {
+                    channel.write(chunk);
+                }
+            }
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    /**
+     * Formats one chunk of rows.
+     */
+    private class ChunkTask implements Callable<ByteBuffer>
+    {
+        private long chunk;
+        private int rows;
+
+        /**
+         * Initializes a task for one chunk.
+         *
+         * @param chunk the chunk's number, which picks its random generator
+         * @param rows  the number of rows in the chunk
+         */
+        ChunkTask(long chunk, int rows)
+        {
+            this.chunk = chunk;
+            this.rows = rows;
+        }
+
+        /**
+         * Generates and formats the chunk's rows.
+         *
+         * @return the chunk's bytes, ready to write
+         */
+        public ByteBuffer call()
+        {
+            SplittableRandom random = new SplittableRandom(seed + chunk * GOLDEN_GAMMA);
+            byte[] out = new byte[rows * MAX_ROW_BYTES];
+            int pos = 0;
+            for (int i = 0; i < rows; i++)
+            {
+                pos = formatRow(random, out, pos);
+            }
+            return ByteBuffer.wrap(out, 0, pos);
+        }
+    }
+
+    /**
+     * Generates one row and formats it as year, month, pressure, speed and
+     * name, with a tab between the fields after the month.
+     *
+     * @param random    the chunk's random generator
+     * @param out       where to write
+     * @param pos       the index to start writing at
+     * @return the index just past the row
+     */
+    private int formatRow(SplittableRandom random, byte[] out, int pos)
+    {
+        int row = random.nextInt(sample.size());
+        int pressure = Math.max(850, sample.getPressure(row) + random.nextInt(11) - 5);
+        int speed = Math.max(0, sample.getSpeed(row) + 5 * (random.nextInt(3) - 1));
+
+        pos = formatInt(sample.getYear(row), out, pos);
+        out[pos++] = ' ';
+        byte[] month = months[sample.getMonthId(row)];
+        System.arraycopy(month, 0, out, pos, month.length);
+        pos += month.length;
+        out[pos++] = '\t';
+        pos = formatInt(pressure, out, pos);
+        out[pos++] = '\t';
+        pos = formatInt(speed, out, pos);
+        out[pos++] = '\t';
+        pos = formatName(pickName(random), out, pos);
+        out[pos++] = '\n';
+        return pos;
+    }
+
+    /**
+     * Picks a name from the pool.  The rank is drawn from the inverse of
+     * the continuous Zipf distribution, so no table of probabilities is
+     * needed however large the pool is.
+     *
+     * @param random    the chunk's random generator
+     * @return the index of the name in the pool
+     */
+    private int pickName(SplittableRandom random)
+    {
+        double u = random.nextDouble();
+        double rank;
+        if (skew == 0)
+        {
+            rank = u * distinctNames;
+        }
+        else if (skew == 1)
+        {
+            rank = Math.pow(distinctNames + 1.0, u) - 1;
+        }
+        else
+        {
+            double top = Math.pow(distinctNames + 1.0, 1 - skew);
+            rank = Math.pow((top - 1) * u + 1, 1 / (1 - skew)) - 1;
+        }
+        return (int)Math.min(distinctNames - 1, (long)rank);
+    }
+
+    /**
+     * Writes a name from the pool.  The first names are the sample names;
+     * later ones add lower case letters to a sample name, counting a, b,
+     * ..., z, aa, ab and so on, so every name in the pool is different and
+     * holds only letters.
+     *
+     * @param index the index of the name in the pool
+     * @param out   where to write
+     * @param pos   the index to start writing at
+     * @return the index just past the name
+     */
+    private int formatName(int index, byte[] out, int pos)
+    {
+        byte[] base = names[index % names.length];
+        System.arraycopy(base, 0, out, pos, base.length);
+        pos += base.length;
+
+        int suffix = index / names.length;
+        int start = pos;
+        while (suffix > 0)
+        {
+            suffix--;
+            out[pos++] = (byte)('a' + suffix % 26);
+            suffix /= 26;
+        }
+        // the letters came out lowest first
+        for (int i = start, j = pos - 1; i < j; i++, j--)
+        {
+            byte swap = out[i];
+            out[i] = out[j];
+            out[j] = swap;
+        }
+        return pos;
+    }
+
+    /**
+     * Writes a non-negative int in decimal.
+     *
+     * @param value the value to write
+     * @param out   where to write
+     * @param pos   the index to start writing at
+     * @return the index just past the digits
+     */
+    private static int formatInt(int value, byte[] out, int pos)
+    {
+        int end = pos;
+        int rest = value;
+        do
+        {
+            end++;
+            rest /= 10;
+        }
+        while (rest > 0);
+        for (int i = end - 1; i >= pos; i--)
+        {
+            out[i] = (byte)('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Writes a data file from the command line, drawing on
+     * hurricanedata.txt.
+     *
+     * @param args  the file to write, the number of rows, and optionally
+     *              the seed, the number of distinct names and the skew
+     * @throws IOException  if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 2)
+        {
+            System.out.println("Usage: java HurricaneDataGenerator out.txt rows "
+                + "[seed] [distinctNames] [skew]");
+            return;
+        }
+        HurricaneDataGenerator generator = new HurricaneDataGenerator(
+                HurricaneFileReader.read("hurricanedata.txt"),
+                args.length > 2 ? Long.parseLong(args[2]) : 1);
+        if (args.length > 3)
+        {
+            generator.setDistinctNames(Integer.parseInt(args[3]));
+        }
+        if (args.length > 4)
+        {
+            generator.setSkew(Double.parseDouble(args[4]));
+        }
+        long start = System.nanoTime();
+        generator.write(args[0], Long.parseLong(args[1]));
+        System.out.printf("Wrote %s rows to %s in %.1f s%n", args[1], args[0],
+            (System.nanoTime() - start) / 1e9);
+    }
+}
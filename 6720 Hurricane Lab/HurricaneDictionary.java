@@ -0,0 +1,209 @@
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Maps repeated strings, such as months and hurricane names, to small
+ * integer codes.  Each distinct string is stored once and records refer
+ * to it by its code.
+ *
+ * Lookups go through an open addressing hash table of codes, so a string
+ * can also be found straight from the bytes of a file without building
+ * a String first.  Bytes are read as ISO-8859-1 characters.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneDictionary
+{
+    private ArrayList<String> values;
+    private int[] hashes;
+    // slots hold code + 1, so 0 marks an empty slot
+    private int[] table;
+
+    /**
+     * Initializes an empty dictionary.
+     */
+    public HurricaneDictionary()
+    {
+        values = new ArrayList<String>();
+        hashes = new int[16];
+        table = new int[32];
+    }
+
+    /**
+     * Finds the code for a string, adding the string if it has not
+     * been seen before.
+     *
+     * @param value the string to encode
+     * @return the code of the string
+     */
+    public int encode(String value)
+    {
+        int hash = value.hashCode();
+        int slot = findSlot(value, hash);
+        if (table[slot] == 0)
+        {
+            return insert(value, hash, slot);
+        }
+        return table[slot] - 1;
+    }
+
+    /**
+     * Finds the code for the characters in part of a byte array, adding
+     * them if they have not been seen before.  A String is only created
+     * the first time a value is seen.
+     *
+     * @param buf   the bytes holding the value
+     * @param start the index of the first byte
+     * @param end   one past the index of the last byte
+     * @return the code of the value
+     */
+    public int encode(byte[] buf, int start, int end)
+    {
+        int hash = 0;
+        for (int i = start; i < end; i++)
+        {
+            hash = 31 * hash + (buf[i] & 0xff);
+        }
+
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0)
+        {
+            int code = table[slot] - 1;
+            if (hashes[code] == hash && matches(values.get(code), buf, start, end))
+            {
+                return code;
+            }
+            slot = (slot + 1) & mask;
+        }
+        String value = new String(buf, start, end - start, StandardCharsets.ISO_8859_1);
+        return insert(value, hash, slot);
+    }
+
+    /**
+     * Finds the code for a string without adding it.
+     *
+     * @param value the string to look up
+     * @return the code of the string, or -1 if it is not in the dictionary
+     */
+    public int lookup(String value)
+    {
+        return table[findSlot(value, value.hashCode())] - 1;
+    }
+
+    /**
+     * Finds the string for a code.
+     *
+     * @param code  a code returned by encode
+     * @return the shared string instance for the code
+     */
+    public String decode(int code)
+    {
+        return values.get(code);
+    }
+
+    /**
+     * Finds how many distinct strings are stored.
+     *
+     * @return the number of distinct strings
+     */
+    public int size()
+    {
+        return values.size();
+    }
+
+    /**
+     * Finds the slot holding a string, or the empty slot where it belongs.
+     *
+     * @param value the string to look for
+     * @param hash  the hash code of the string
+     * @return the slot index
+     */
+    private int findSlot(String value, int hash)
+    {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0)
+        {
+            int code = table[slot] - 1;
+            if (hashes[code] == hash && values.get(code).equals(value))
+            {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Adds a new string in an empty slot, growing the table when it
+     * becomes half full.
+     *
+     * @param value the string to add
+     * @param hash  the hash code of the string
+     * @param slot  the empty slot found for the string
+     * @return the code given to the string
+     */
+    private int insert(String value, int hash, int slot)
+    {
+        int code = values.size();
+        values.add(value);
+        if (code == hashes.length)
+        {
+            hashes = Arrays.copyOf(hashes, code * 2);
+        }
+        hashes[code] = hash;
+        table[slot] = code + 1;
+
+        if (values.size() * 2 > table.length)
+        {
+            rehash();
+        }
+        return code;
+    }
+
+    /**
+     * Doubles the hash table and places every code again.
+     */
+    private void rehash()
+    {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int code = 0; code < values.size(); code++)
+        {
+            int slot = hashes[code] & mask;
+            while (table[slot] != 0)
+            {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = code + 1;
+        }
+    }
+
+    /**
+     * Compares a string to bytes read as ISO-8859-1 characters.
+     *
+     * @param value the string to compare
+     * @param buf   the bytes to compare
+     * @param start the index of the first byte
+     * @param end   one past the index of the last byte
+     * @return true if they hold the same characters
+     */
+    private static boolean matches(String value, byte[] buf, int start, int end)
+    {
+        if (value.length() != end - start)
+        {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++)
+        {
+            if (value.charAt(i) != (char)(buf[start + i] & 0xff))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * The numeric fields of a hurricane, so code that works on any field
+ * (statistics, sorting, searching) can be written once.  Months are
+ * given as their calendar number.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public enum HurricaneField
+{
+    YEAR, MONTH, PRESSURE, SPEED, CATEGORY;
+
+    /**
+     * Finds this field's value in a Hurricane object.
+     *
+     * @param h the hurricane to read
+     * @return the value of this field
+     */
+    public int of(Hurricane h)
+    {
+        switch (this)
+        {
+            case YEAR:
+                return h.getYear();
+            case MONTH:
+                return h.getMonthNumber();
+            case PRESSURE:
+                return h.getPressure();
+            case SPEED:
+                return h.getSpeed();
+            default:
+                return h.getCategory();
+        }
+    }
+
+    /**
+     * Finds this field's value in a row of a store.
+     *
+     * @param store     the store to read
+     * @param row       the row index
+     * @return the value of this field
+     */
+    public int of(HurricaneStore store, int row)
+    {
+        switch (this)
+        {
+            case YEAR:
+                return store.getYear(row);
+            case MONTH:
+                return store.getMonthNumber(row);
+            case PRESSURE:
+                return store.getPressure(row);
+            case SPEED:
+                return store.getSpeed(row);
+            default:
+                return store.getCategory(row);
+        }
+    }
+}
@@ -0,0 +1,514 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Loads a hurricane data file in a single pass.  Each line holds a year,
+ * a month, a pressure, a wind speed and a name; the name keeps only its
+ * letters.  The file is read in blocks into a byte buffer and the fields
+ * are parsed straight from the bytes into a HurricaneColumns object, so
+ * no Scanner, line Strings or per-character Strings are created.
+ *
+ * Large files can also be read in parallel: the file is cut into chunks
+ * that end on line breaks, each chunk is parsed on the fork/join common
+ * pool, and the chunks are joined back together in file order.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneFileReader
+{
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int CHUNK_SIZE = 1 << 24;
+
+    private HurricaneColumns columns;
+    // letters of the name being parsed
+    private byte[] nameBuffer;
+    private int lineNumber;
+    // the index just past the last number parsed
+    private int numberEnd;
+
+    /**
+     * Initializes a reader that appends to the given columns.
+     *
+     * @param columns   where parsed rows are added
+     */
+    public HurricaneFileReader(HurricaneColumns columns)
+    {
+        this(columns, 0);
+    }
+
+    /**
+     * Initializes a reader for input that starts partway into a file, so
+     * that errors give line numbers within the whole file.
+     *
+     * @param columns       where parsed rows are added
+     * @param linesBefore   the number of lines in the file before the input
+     */
+    private HurricaneFileReader(HurricaneColumns columns, int linesBefore)
+    {
+        this.columns = columns;
+        nameBuffer = new byte[32];
+        lineNumber = linesBefore;
+    }
+
+    /**
+     * Reads every hurricane in a file.
+     *
+     * @param filename  hurricane information
+     * @return the hurricanes in file order
+     * @throws IOException  if the file cannot be read or a line is malformed
+     */
+    public static HurricaneColumns read(String filename) throws IOException
+    {
+        File file = new File(filename);
+        // about 25 bytes a line; the columns grow if this guess is low
+        HurricaneColumns columns = new HurricaneColumns((int)Math.min(file.length() / 24 + 1, 1 << 20));
+        HurricaneFileReader reader = new HurricaneFileReader(columns);
+        InputStream in = new FileInputStream(file);
+        try
+        {
+            reader.read(in);
+        }
+        finally
+        {
+            in.close();
+        }
+        return columns;
+    }
+
+    /**
+     * Reads every hurricane in a file, parsing chunks of the file in
+     * parallel.  The rows, their order and the dictionary codes are the
+     * same as from read.
+     *
+     * @param filename  hurricane information
+     * @return the hurricanes in file order
+     * @throws IOException  if the file cannot be read or a line is malformed
+     */
+    public static HurricaneColumns readParallel(String filename) throws IOException
+    {
+        return readParallel(filename, CHUNK_SIZE);
+    }
+
+    /**
+     * Reads every hurricane in a file, parsing chunks of about the given
+     * size in parallel.
+     *
+     * @param filename  hurricane information
+     * @param chunkSize the number of bytes to aim for in each chunk
+     * @return the hurricanes in file order
+     * @throws IOException  if the file cannot be read or a line is malformed
+     */
+    public static HurricaneColumns readParallel(String filename, int chunkSize) throws IOException
+    {
+        FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ);
+        try
+        {
+            long[] bounds = findChunks(channel, chunkSize);
+            if (bounds.length <= 2)
+            {
+                return read(filename);
+            }
+
+            ArrayList<ChunkTask> tasks = new ArrayList<ChunkTask>();
+            for (int i = 0; i + 1 < bounds.length; i++)
+            {
+                ChunkTask task = new ChunkTask(channel, bounds[i], bounds[i + 1]);
+                task.fork();
+                tasks.add(task);
+            }
+
+            int total = 0;
+            int lines = 0;
+            ArrayList<HurricaneColumns> parts = new ArrayList<HurricaneColumns>();
+            for (ChunkTask task : tasks)
+            {
+                HurricaneColumns part = task.join();
+                if (part == null)
+                {
+                    throw task.failure(lines);
+                }
+                parts.add(part);
+                total += part.size();
+                lines += task.lines;
+            }
+
+            HurricaneColumns columns = new HurricaneColumns(total);
+            for (HurricaneColumns part : parts)
+            {
+                columns.append(part);
+            }
+            return columns;
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    /**
+     * Splits a file into chunks that each start at the beginning of a line.
+     *
+     * @param channel   the open file
+     * @param chunkSize the number of bytes to aim for in each chunk
+     * @return the chunk boundaries, starting with 0 and ending with the file size
+     * @throws IOException  if the file cannot be read
+     */
+    private static long[] findChunks(FileChannel channel, int chunkSize) throws IOException
+    {
+        long length = channel.size();
+        ArrayList<Long> bounds = new ArrayList<Long>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long pos = chunkSize;
+        while (pos < length)
+        {
+            // move forward to just past the next line break
+            long lineStart = -1;
+            while (lineStart < 0 && pos < length)
+            {
+                probe.clear();
+                int count = channel.read(probe, pos);
+                for (int i = 0; i < count && lineStart < 0; i++)
+                {
+                    if (probe.get(i) == '\n')
+                    {
+                        lineStart = pos + i + 1;
+                    }
+                }
+                if (lineStart < 0)
+                {
+                    pos += count;
+                }
+            }
+            if (lineStart < 0 || lineStart >= length)
+            {
+                break;
+            }
+            bounds.add(lineStart);
+            pos = lineStart + chunkSize;
+        }
+        bounds.add(length);
+
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Parses one chunk of a file into its own columns.  Chunks are parsed
+     * before the number of lines ahead of them is known, so each one
+     * counts its own lines, and a malformed chunk is parsed again with the
+     * right first line number to report the error.
+     */
+    private static class ChunkTask extends RecursiveTask<HurricaneColumns>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private FileChannel channel;
+        private long start, end;
+        // the number of lines in the chunk, once it is parsed
+        private int lines;
+        // the chunk's bytes, kept only if a line in them is malformed
+        private byte[] malformed;
+        private IOException failure;
+
+        /**
+         * Initializes a task for the bytes between two positions.
+         *
+         * @param channel   the open file
+         * @param start     the position of the first byte, at the start of a line
+         * @param end       one past the position of the last byte
+         */
+        ChunkTask(FileChannel channel, long start, long end)
+        {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Reads and parses the chunk.
+         *
+         * @return the parsed rows, or null if reading failed
+         */
+        @Override
+        protected HurricaneColumns compute()
+        {
+            byte[] buf = new byte[(int)(end - start)];
+            try
+            {
+                ByteBuffer wrapped = ByteBuffer.wrap(buf);
+                while (wrapped.hasRemaining())
+                {
+                    if (channel.read(wrapped, start + wrapped.position()) < 0)
+                    {
+                        throw new EOFException("File shrank while reading");
+                    }
+                }
+            }
+            catch (IOException e)
+            {
+                failure = new IOException("Bad chunk at byte " + start + ": " + e.getMessage(), e);
+                return null;
+            }
+
+            HurricaneColumns part = new HurricaneColumns(buf.length / 24 + 1);
+            HurricaneFileReader reader = new HurricaneFileReader(part);
+            try
+            {
+                reader.parse(buf, 0, buf.length, true);
+            }
+            catch (IOException e)
+            {
+                malformed = buf;
+                failure = e;
+                return null;
+            }
+            lines = reader.lineNumber;
+            return part;
+        }
+
+        /**
+         * Finds why the chunk could not be read.
+         *
+         * @param linesBefore   the number of lines in the file before the chunk
+         * @return the error, with a line number within the whole file if a
+         *         line was malformed
+         */
+        IOException failure(int linesBefore)
+        {
+            if (malformed != null)
+            {
+                try
+                {
+                    new HurricaneFileReader(new HurricaneColumns(), linesBefore)
+                        .parse(malformed, 0, malformed.length, true);
+                }
+                catch (IOException e)
+                {
+                    return e;
+                }
+            }
+            return failure;
+        }
+    }
+
+    /**
+     * Reads every hurricane from a stream.  The buffer holds at least one
+     * block and grows only when a single line does not fit in it.
+     *
+     * @param in    the stream to read
+     * @throws IOException  if the stream cannot be read or a line is malformed
+     */
+    public void read(InputStream in) throws IOException
+    {
+        byte[] buf = new byte[BLOCK_SIZE];
+        int filled = 0;
+        int count;
+        while ((count = in.read(buf, filled, buf.length - filled)) != -1)
+        {
+            filled += count;
+            int used = parse(buf, 0, filled, false);
+            filled -= used;
+            if (filled == buf.length)
+            {
+                byte[] bigger = new byte[buf.length * 2];
+                System.arraycopy(buf, used, bigger, 0, filled);
+                buf = bigger;
+            }
+            else
+            {
+                System.arraycopy(buf, used, buf, 0, filled);
+            }
+        }
+        parse(buf, 0, filled, true);
+    }
+
+    /**
+     * Parses the complete lines in part of a byte array.
+     *
+     * @param buf   the bytes to parse
+     * @param from  the index of the first byte, at the start of a line
+     * @param to    one past the index of the last byte
+     * @param last  true if no more input follows, so a final line
+     *              without a line break is also parsed
+     * @return the index just past the last line parsed
+     * @throws IOException  if a line is malformed
+     */
+    public int parse(byte[] buf, int from, int to, boolean last) throws IOException
+    {
+        int start = from;
+        for (int i = from; i < to; i++)
+        {
+            if (buf[i] == '\n')
+            {
+                parseLine(buf, start, i);
+                start = i + 1;
+            }
+        }
+        if (last && start < to)
+        {
+            parseLine(buf, start, to);
+            start = to;
+        }
+        return start;
+    }
+
+    /**
+     * Parses one line and adds it to the columns.  Blank lines are skipped.
+     *
+     * @param buf   the bytes holding the line
+     * @param start the index of the first byte of the line
+     * @param end   the index of the line break, or the end of input
+     * @throws IOException  if the line is malformed
+     */
+    private void parseLine(byte[] buf, int start, int end) throws IOException
+    {
+        lineNumber++;
+        int pos = skipSpace(buf, start, end);
+        if (pos == end)
+        {
+            return;
+        }
+
+        int year = number(buf, pos, end, "year");
+        pos = numberEnd;
+
+        pos = skipSpace(buf, pos, end);
+        int mark = pos;
+        while (pos < end && !isSpace(buf[pos]))
+        {
+            pos++;
+        }
+        checkField(mark, pos, "month");
+        int monthId = columns.getMonths().encode(buf, mark, pos);
+
+        pos = skipSpace(buf, pos, end);
+        int pressure = number(buf, pos, end, "pressure");
+        pos = numberEnd;
+
+        pos = skipSpace(buf, pos, end);
+        int speed = number(buf, pos, end, "speed");
+        pos = numberEnd;
+
+        int length = 0;
+        for (; pos < end; pos++)
+        {
+            byte c = buf[pos];
+            if (('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z'))
+            {
+                if (length == nameBuffer.length)
+                {
+                    nameBuffer = Arrays.copyOf(nameBuffer, length * 2);
+                }
+                nameBuffer[length++] = c;
+            }
+        }
+        int nameId = columns.getNames().encode(nameBuffer, 0, length);
+
+        columns.addCodes(year, monthId, pressure, speed, nameId);
+    }
+
+    /**
+     * Parses a whole number with an optional leading + or -, as
+     * Scanner.nextInt accepted.  The index just past it is left in
+     * numberEnd.
+     *
+     * @param buf   the bytes holding the line
+     * @param pos   the index of the first byte of the number
+     * @param end   the end of the line
+     * @param field the name of the field, for the error message
+     * @return the number
+     * @throws IOException  if there are no digits or the number does not
+     *                      fit in an int
+     */
+    private int number(byte[] buf, int pos, int end, String field) throws IOException
+    {
+        boolean negative = pos < end && buf[pos] == '-';
+        if (pos < end && (negative || buf[pos] == '+'))
+        {
+            pos++;
+        }
+        // the digits are taken off a negative total, which reaches down to
+        // Integer.MIN_VALUE, and the sign is flipped at the end
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int value = 0;
+        int mark = pos;
+        while (pos < end && isDigit(buf[pos]))
+        {
+            int digit = buf[pos++] - '0';
+            if (value < limit / 10 || value * 10 < limit + digit)
+            {
+                throw new IOException("Out of range " + field + " on line " + lineNumber);
+            }
+            value = value * 10 - digit;
+        }
+        checkField(mark, pos, field);
+        numberEnd = pos;
+        return negative ? value : -value;
+    }
+
+    /**
+     * Makes sure a field was found.
+     *
+     * @param mark  where the field started
+     * @param pos   where the field ended
+     * @param field the name of the field, for the error message
+     * @throws IOException  if the field is empty
+     */
+    private void checkField(int mark, int pos, String field) throws IOException
+    {
+        if (mark == pos)
+        {
+            throw new IOException("Missing " + field + " on line " + lineNumber);
+        }
+    }
+
+    /**
+     * Skips spaces, tabs and carriage returns.
+     *
+     * @param buf   the bytes to scan
+     * @param pos   where to start
+     * @param end   where to stop
+     * @return the index of the first byte that is not a space
+     */
+    private static int skipSpace(byte[] buf, int pos, int end)
+    {
+        while (pos < end && isSpace(buf[pos]))
+        {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Checks for white space within a line.
+     *
+     * @param c the byte to check
+     * @return true for a space, tab or carriage return
+     */
+    private static boolean isSpace(byte c)
+    {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    /**
+     * Checks for a decimal digit.
+     *
+     * @param c the byte to check
+     * @return true for 0 through 9
+     */
+    private static boolean isDigit(byte c)
+    {
+        return '0' <= c && c <= '9';
+    }
+}
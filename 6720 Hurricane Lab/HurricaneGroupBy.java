@@ -0,0 +1,400 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Count, minimum, maximum, sum and mean of every numeric field for each
+ * group of a HurricaneGrouping, gathered in a single pass over the data.
+ *
+ * The accumulators are primitive arrays with one slot of fields for each
+ * distinct key, added when the key's first row is scanned and doubled
+ * when full.  A key's slot is found through a table indexed by key over a
+ * window of at most MAX_DENSE_KEYS keys; keys outside the window, such as
+ * a bad year far from the rest, are found through a map instead, so they
+ * cost one slot and not the keys between.  The parallel variant scans
+ * chunks of rows on the fork/join common pool, each into its own partial
+ * result, and merges the partials.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneGroupBy
+{
+    private static final HurricaneField[] FIELDS = HurricaneField.values();
+    // chunks this short are scanned on the current thread
+    private static final int PARALLEL_CUTOFF = 1 << 15;
+    // the widest range of keys looked up through the table
+    private static final int MAX_DENSE_KEYS = 1 << 12;
+
+    private HurricaneGrouping grouping;
+    // the key of the first entry of keySlots
+    private int baseKey;
+    // the slot of each key from baseKey on, or -1 if it has none
+    private int[] keySlots;
+    // the slots of keys outside the range of keySlots
+    private HashMap<Integer, Integer> sparseSlots;
+    // the key of each slot
+    private int[] slotKeys;
+    private int slots;
+    private long[] count;
+    // one entry per field for each group slot
+    private int[] min, max;
+    private long[] sum;
+
+    /**
+     * Initializes an empty result.
+     *
+     * @param grouping  how rows are grouped
+     */
+    private HurricaneGroupBy(HurricaneGrouping grouping)
+    {
+        this.grouping = grouping;
+        keySlots = new int[0];
+        sparseSlots = new HashMap<Integer, Integer>();
+        slotKeys = new int[0];
+        count = new long[0];
+        min = new int[0];
+        max = new int[0];
+        sum = new long[0];
+    }
+
+    /**
+     * Groups every row of a store.
+     *
+     * @param store     the hurricanes
+     * @param grouping  how to group them
+     * @return the statistics of each group
+     */
+    public static HurricaneGroupBy of(HurricaneStore store, HurricaneGrouping grouping)
+    {
+        HurricaneGroupBy groups = new HurricaneGroupBy(grouping);
+        groups.scan(store, 0, store.size());
+        return groups;
+    }
+
+    /**
+     * Groups every row of a store, scanning chunks of the rows in parallel.
+     *
+     * @param store     the hurricanes
+     * @param grouping  how to group them
+     * @return the statistics of each group
+     */
+    public static HurricaneGroupBy parallelOf(HurricaneStore store, HurricaneGrouping grouping)
+    {
+        return new ScanTask(store, grouping, 0, store.size()).invoke();
+    }
+
+    /**
+     * Adds a range of rows.
+     *
+     * @param store the hurricanes
+     * @param low   the first row to add
+     * @param high  one past the last row to add
+     */
+    private void scan(HurricaneStore store, int low, int high)
+    {
+        for (int row = low; row < high; row++)
+        {
+            int slot = slotFor(grouping.of(store, row));
+            count[slot]++;
+            int at = slot * FIELDS.length;
+            accumulate(at + HurricaneField.YEAR.ordinal(), store.getYear(row));
+            accumulate(at + HurricaneField.MONTH.ordinal(), store.getMonthNumber(row));
+            accumulate(at + HurricaneField.PRESSURE.ordinal(), store.getPressure(row));
+            accumulate(at + HurricaneField.SPEED.ordinal(), store.getSpeed(row));
+            accumulate(at + HurricaneField.CATEGORY.ordinal(), store.getCategory(row));
+        }
+    }
+
+    /**
+     * Folds one value into an accumulator's minimum, maximum and sum.
+     *
+     * @param at    the accumulator's index
+     * @param value the value to add
+     */
+    private void accumulate(int at, int value)
+    {
+        if (value < min[at])
+        {
+            min[at] = value;
+        }
+        if (value > max[at])
+        {
+            max[at] = value;
+        }
+        sum[at] += value;
+    }
+
+    /**
+     * Adds the groups of another result to this one.
+     *
+     * @param other a result with the same grouping
+     */
+    private void merge(HurricaneGroupBy other)
+    {
+        for (int otherSlot = 0; otherSlot < other.slots; otherSlot++)
+        {
+            int slot = slotFor(other.slotKeys[otherSlot]);
+            count[slot] += other.count[otherSlot];
+            for (int f = 0; f < FIELDS.length; f++)
+            {
+                int at = slot * FIELDS.length + f;
+                int from = otherSlot * FIELDS.length + f;
+                min[at] = Math.min(min[at], other.min[from]);
+                max[at] = Math.max(max[at], other.max[from]);
+                sum[at] += other.sum[from];
+            }
+        }
+    }
+
+    /**
+     * Finds the slot of a key, giving the key a new slot if it has none
+     * yet.
+     *
+     * @param key   a group key
+     * @return the key's slot
+     */
+    private int slotFor(int key)
+    {
+        int slot = find(key);
+        if (slot >= 0)
+        {
+            return slot;
+        }
+        slot = newSlot(key);
+        if (widenKeys(key))
+        {
+            keySlots[key - baseKey] = slot;
+        }
+        else
+        {
+            sparseSlots.put(key, slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @param key   a group key
+     * @return the key's slot, or -1 if it has none
+     */
+    private int find(int key)
+    {
+        long offset = (long)key - baseKey;
+        if (offset >= 0 && offset < keySlots.length && keySlots[(int)offset] >= 0)
+        {
+            return keySlots[(int)offset];
+        }
+        Integer sparse = sparseSlots.get(key);
+        return sparse == null ? -1 : sparse;
+    }
+
+    /**
+     * Widens the key table to cover a key, at least doubling it so that
+     * keys arriving in any order are copied O(1) times each on average.
+     *
+     * @param key   the key to cover
+     * @return true if the table covers the key, or false if covering it
+     *         would span more than MAX_DENSE_KEYS keys
+     */
+    private boolean widenKeys(int key)
+    {
+        if (keySlots.length == 0)
+        {
+            baseKey = key;
+            keySlots = new int[16];
+            Arrays.fill(keySlots, -1);
+            return true;
+        }
+        long end = (long)baseKey + keySlots.length;
+        if (key >= baseKey && key < end)
+        {
+            return true;
+        }
+        long span = Math.max(end, key + 1L) - Math.min(baseKey, key);
+        if (span > MAX_DENSE_KEYS)
+        {
+            return false;
+        }
+        int length = (int)Math.min(MAX_DENSE_KEYS, Math.max(span, 2L * keySlots.length));
+        // room to grow is left on the side the new key is on
+        int newBase = key < baseKey ? (int)(end - length) : baseKey;
+        int[] grown = new int[length];
+        Arrays.fill(grown, -1);
+        System.arraycopy(keySlots, 0, grown, baseKey - newBase, keySlots.length);
+        keySlots = grown;
+        baseKey = newBase;
+        return true;
+    }
+
+    /**
+     * Adds an empty slot for a key, doubling the accumulators when they
+     * are full.
+     *
+     * @param key   the slot's key
+     * @return the new slot
+     */
+    private int newSlot(int key)
+    {
+        if (slots == slotKeys.length)
+        {
+            int capacity = Math.max(2 * slots, 16);
+            int cells = capacity * FIELDS.length;
+            slotKeys = Arrays.copyOf(slotKeys, capacity);
+            count = Arrays.copyOf(count, capacity);
+            sum = Arrays.copyOf(sum, cells);
+            min = Arrays.copyOf(min, cells);
+            max = Arrays.copyOf(max, cells);
+            Arrays.fill(min, slots * FIELDS.length, cells, Integer.MAX_VALUE);
+            Arrays.fill(max, slots * FIELDS.length, cells, Integer.MIN_VALUE);
+        }
+        slotKeys[slots] = key;
+        return slots++;
+    }
+
+    /**
+     * Finds how the rows were grouped.
+     *
+     * @return the grouping
+     */
+    public HurricaneGrouping getGrouping()
+    {
+        return grouping;
+    }
+
+    /**
+     * Finds the keys of the groups that have hurricanes.
+     *
+     * @return the keys in ascending order
+     */
+    public int[] getKeys()
+    {
+        int[] keys = Arrays.copyOf(slotKeys, slots);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Finds how many hurricanes are in a group.
+     *
+     * @param key   the group's key
+     * @return the number of hurricanes, 0 if the group is empty
+     */
+    public long getCount(int key)
+    {
+        int slot = find(key);
+        return slot < 0 ? 0 : count[slot];
+    }
+
+    /**
+     * Finds the smallest value of a field in a group.
+     *
+     * @param key   the group's key
+     * @param field the field
+     * @return the minimum, or Integer.MAX_VALUE if the group is empty
+     */
+    public int getMin(int key, HurricaneField field)
+    {
+        return getCount(key) == 0 ? Integer.MAX_VALUE : min[indexOf(key, field)];
+    }
+
+    /**
+     * Finds the largest value of a field in a group.
+     *
+     * @param key   the group's key
+     * @param field the field
+     * @return the maximum, or Integer.MIN_VALUE if the group is empty
+     */
+    public int getMax(int key, HurricaneField field)
+    {
+        return getCount(key) == 0 ? Integer.MIN_VALUE : max[indexOf(key, field)];
+    }
+
+    /**
+     * Finds the total of a field in a group.
+     *
+     * @param key   the group's key
+     * @param field the field
+     * @return the sum of the field over the group
+     */
+    public long getSum(int key, HurricaneField field)
+    {
+        return getCount(key) == 0 ? 0 : sum[indexOf(key, field)];
+    }
+
+    /**
+     * Finds the mean of a field in a group.
+     *
+     * @param key   the group's key
+     * @param field the field
+     * @return the average, or NaN if the group is empty
+     */
+    public double getAverage(int key, HurricaneField field)
+    {
+        return (double)getSum(key, field)/getCount(key);
+    }
+
+    /**
+     * Finds the accumulator of a field in a group that has hurricanes.
+     *
+     * @param key   the group's key
+     * @param field the field
+     * @return the accumulator's index
+     */
+    private int indexOf(int key, HurricaneField field)
+    {
+        return find(key) * FIELDS.length + field.ordinal();
+    }
+
+    /**
+     * Groups a range of rows, splitting long ranges in two.
+     */
+    private static class ScanTask extends RecursiveTask<HurricaneGroupBy>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private HurricaneStore store;
+        private HurricaneGrouping grouping;
+        private int low, high;
+
+        /**
+         * Initializes a task for the rows from low up to high.
+         *
+         * @param store     the hurricanes
+         * @param grouping  how to group them
+         * @param low       the first row to scan
+         * @param high      one past the last row to scan
+         */
+        ScanTask(HurricaneStore store, HurricaneGrouping grouping, int low, int high)
+        {
+            this.store = store;
+            this.grouping = grouping;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * Groups the halves in parallel and merges them, or groups a short
+         * range directly.
+         *
+         * @return the statistics of each group in the range
+         */
+        @Override
+        protected HurricaneGroupBy compute()
+        {
+            if (high - low <= PARALLEL_CUTOFF)
+            {
+                HurricaneGroupBy groups = new HurricaneGroupBy(grouping);
+                groups.scan(store, low, high);
+                return groups;
+            }
+            int mid = (low + high) >>> 1;
+            ScanTask right = new ScanTask(store, grouping, mid, high);
+            right.fork();
+            HurricaneGroupBy groups = new ScanTask(store, grouping, low, mid).compute();
+            groups.merge(right.join());
+            return groups;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * The ways hurricanes can be grouped for aggregate reports.  Each grouping
+ * maps a row to a small integer key: the year, the first year of the
+ * decade, the month as 1 to 12, or the category.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public enum HurricaneGrouping
+{
+    YEAR, DECADE, MONTH, CATEGORY;
+
+    private static final String[] MONTHS = {"?", "Jan", "Feb", "Mar", "Apr", "May", "Jun",
+        "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    /**
+     * Finds the group of a row of a store.
+     *
+     * @param store     the store to read
+     * @param row       the row index
+     * @return the row's group key
+     */
+    public int of(HurricaneStore store, int row)
+    {
+        switch (this)
+        {
+            case YEAR:
+                return store.getYear(row);
+            case DECADE:
+                return Math.floorDiv(store.getYear(row), 10) * 10;
+            case MONTH:
+                return store.getMonthNumber(row);
+            default:
+                return store.getCategory(row);
+        }
+    }
+
+    /**
+     * Describes a group key for printing.
+     *
+     * @param key   a key of this grouping
+     * @return the key as a label, such as 1990s or Aug
+     */
+    public String label(int key)
+    {
+        switch (this)
+        {
+            case DECADE:
+                return key + "s";
+            case MONTH:
+                return key >= 1 && key <= 12 ? MONTHS[key] : MONTHS[0];
+            default:
+                return String.valueOf(key);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+import java.util.*;
+
+/**
+ * Finds the rows with a given hurricane name without sorting or scanning
+ * the data.  Names are normalized to lower case, so "bob" and "Bob" find
+ * the same hurricanes.  The rank of each row's name key, taken from the
+ * store, is used as its code, and the rows of every code are stored
+ * together in one int array in row order.  An exact lookup finds the code
+ * through a hash table of the keys, and a HurricaneNameTrie over the
+ * codes answers prefix and typo-tolerant searches.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneNameIndex
+{
+    // distinct lower case names, ascending; a name's code is its index
+    private String[] keys;
+    // the code of each key, for exact lookups
+    private HurricaneDictionary codes;
+    // rows of code c are rows[offsets[c]] up to rows[offsets[c + 1]]
+    private int[] offsets;
+    private int[] rows;
+    private HurricaneNameTrie trie;
+
+    /**
+     * Builds the index for the names of a store.  The names were
+     * already normalized and ranked by the store, once per distinct name.
+     *
+     * @param store   the hurricanes to index
+     */
+    public HurricaneNameIndex(HurricaneStore store)
+    {
+        keys = store.getNameKeys();
+        int n = store.size();
+        offsets = new int[keys.length + 1];
+        for (int row = 0; row < n; row++)
+        {
+            offsets[store.getNameRank(row) + 1]++;
+        }
+        for (int code = 0; code < keys.length; code++)
+        {
+            offsets[code + 1] += offsets[code];
+        }
+
+        rows = new int[n];
+        int[] next = Arrays.copyOf(offsets, keys.length);
+        for (int row = 0; row < n; row++)
+        {
+            rows[next[store.getNameRank(row)]++] = row;
+        }
+
+        // keys are encoded in rank order, so each key's code is its rank
+        codes = new HurricaneDictionary();
+        trie = new HurricaneNameTrie();
+        for (int code = 0; code < keys.length; code++)
+        {
+            codes.encode(keys[code]);
+            trie.add(keys[code], code);
+        }
+    }
+
+    /**
+     * Converts a name to the form used as the index key.
+     *
+     * @param name  a hurricane name
+     * @return the name in lower case
+     */
+    public static String normalize(String name)
+    {
+        return Hurricane.nameKey(name);
+    }
+
+    /**
+     * Finds the rows with a name, ignoring case.
+     *
+     * @param name  the name to look up
+     * @return the matching rows in row order; empty if there are none
+     */
+    public int[] rowsFor(String name)
+    {
+        int code = codes.lookup(normalize(name));
+        if (code < 0)
+        {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(rows, offsets[code], offsets[code + 1]);
+    }
+
+    /**
+     * Finds the rows whose name starts with a prefix, ignoring case.
+     *
+     * @param prefix    the start of the name
+     * @return the matching rows in row order; empty if there are none
+     */
+    public int[] rowsWithPrefix(String prefix)
+    {
+        return rowsForCodes(trie.withPrefix(normalize(prefix)));
+    }
+
+    /**
+     * Finds the rows whose name is within a number of edits of a name,
+     * ignoring case.
+     *
+     * @param name      the name to look up
+     * @param maxEdits  the number of inserted, deleted or changed letters allowed
+     * @return the matching rows in row order; empty if there are none
+     */
+    public int[] rowsNear(String name, int maxEdits)
+    {
+        return rowsForCodes(trie.near(normalize(name), maxEdits));
+    }
+
+    /**
+     * Gathers the rows of several names.
+     *
+     * @param found the codes of the names
+     * @return the rows of every code, in row order
+     */
+    private int[] rowsForCodes(int[] found)
+    {
+        int count = 0;
+        for (int code : found)
+        {
+            count += offsets[code + 1] - offsets[code];
+        }
+        int[] match = new int[count];
+        int index = 0;
+        for (int code : found)
+        {
+            int length = offsets[code + 1] - offsets[code];
+            System.arraycopy(rows, offsets[code], match, index, length);
+            index += length;
+        }
+        Arrays.sort(match);
+        return match;
+    }
+}
@@ -0,0 +1,106 @@
+import java.util.*;
+
+/**
+ * Ranks the names of a dictionary in lower case, so that sorting and
+ * looking up names compares ints instead of Strings.  Names that differ
+ * only in case get the same rank and share one key String.  Each distinct
+ * name is lowered and compared once, however many rows use it.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneNameRanks
+{
+    // distinct lower case names, ascending
+    private final String[] keys;
+    // the index in keys of each name code
+    private final int[] ranks;
+
+    /**
+     * Ranks every name in a dictionary.
+     *
+     * @param names the names to rank
+     */
+    public HurricaneNameRanks(HurricaneDictionary names)
+    {
+        int count = names.size();
+        final String[] lower = new String[count];
+        Integer[] ids = new Integer[count];
+        for (int id = 0; id < count; id++)
+        {
+            lower[id] = Hurricane.nameKey(names.decode(id));
+            ids[id] = id;
+        }
+        Arrays.sort(ids, new Comparator<Integer>()
+            {
+                public int compare(Integer a, Integer b)
+                {
+                    return lower[a].compareTo(lower[b]);
+                }
+            });
+
+        ranks = new int[count];
+        String[] found = new String[count];
+        int distinct = 0;
+        for (int i = 0; i < count; i++)
+        {
+            String key = lower[ids[i]];
+            if (distinct == 0 || !found[distinct - 1].equals(key))
+            {
+                found[distinct++] = key;
+            }
+            ranks[ids[i]] = distinct - 1;
+        }
+        keys = Arrays.copyOf(found, distinct);
+    }
+
+    /**
+     * Brings a ranking up to date with its dictionary, which may have
+     * gained names since the ranking was made.
+     *
+     * @param ranks the current ranking, or null if there is none yet
+     * @param names the dictionary that was ranked
+     * @return ranks if it still covers every name, or a new ranking
+     */
+    public static HurricaneNameRanks of(HurricaneNameRanks ranks, HurricaneDictionary names)
+    {
+        if (ranks != null && ranks.ranks.length == names.size())
+        {
+            return ranks;
+        }
+        return new HurricaneNameRanks(names);
+    }
+
+    /**
+     * Finds the rank of a name.
+     *
+     * @param nameId    the code of the name in the dictionary
+     * @return the index of the name's key in getKeys()
+     */
+    public int rankOf(int nameId)
+    {
+        return ranks[nameId];
+    }
+
+    /**
+     * Finds the key of a name.
+     *
+     * @param nameId    the code of the name in the dictionary
+     * @return the name in lower case
+     */
+    public String keyOf(int nameId)
+    {
+        return keys[ranks[nameId]];
+    }
+
+    /**
+     * Finds the distinct lower case names.
+     *
+     * @return the keys in ascending order; callers must not change it
+     */
+    public String[] getKeys()
+    {
+        return keys;
+    }
+}
@@ -0,0 +1,242 @@
+import java.util.*;
+
+/**
+ * A trie of normalized hurricane names, used for prefix searches and for
+ * searches that allow a few typing mistakes.  Nodes are kept in parallel
+ * int arrays, with each node pointing to its first child and next sibling,
+ * and a node that ends a name holds that name's code.
+ *
+ * Typo-tolerant searches walk the trie while filling in one row of the
+ * edit distance table per character, and skip any branch whose row is
+ * already over the allowed number of edits.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneNameTrie
+{
+    private char[] labels;
+    private int[] firstChild, nextSibling, codes;
+    private int nodes;
+
+    /**
+     * Initializes a trie holding only its root.
+     */
+    public HurricaneNameTrie()
+    {
+        labels = new char[64];
+        firstChild = new int[64];
+        nextSibling = new int[64];
+        codes = new int[64];
+        nodes = 1;
+        firstChild[0] = -1;
+        nextSibling[0] = -1;
+        codes[0] = -1;
+    }
+
+    /**
+     * Adds a name with its code.
+     *
+     * @param name  a normalized name
+     * @param code  the code to report when the name matches
+     */
+    public void add(String name, int code)
+    {
+        int node = 0;
+        for (int i = 0; i < name.length(); i++)
+        {
+            node = child(node, name.charAt(i), true);
+        }
+        codes[node] = code;
+    }
+
+    /**
+     * Finds the codes of every name that starts with a prefix.
+     *
+     * @param prefix    a normalized prefix
+     * @return the matching codes, in no particular order
+     */
+    public int[] withPrefix(String prefix)
+    {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++)
+        {
+            node = child(node, prefix.charAt(i), false);
+        }
+        IntList found = new IntList();
+        if (node < 0)
+        {
+            return found.toArray();
+        }
+
+        IntList stack = new IntList();
+        stack.add(node);
+        while (stack.size() > 0)
+        {
+            int current = stack.removeLast();
+            if (codes[current] >= 0)
+            {
+                found.add(codes[current]);
+            }
+            for (int c = firstChild[current]; c >= 0; c = nextSibling[c])
+            {
+                stack.add(c);
+            }
+        }
+        return found.toArray();
+    }
+
+    /**
+     * Finds the codes of every name within a number of edits of a name.
+     * An edit inserts, deletes or changes one character.
+     *
+     * @param name      a normalized name
+     * @param maxEdits  the largest edit distance to accept
+     * @return the matching codes, in no particular order
+     */
+    public int[] near(String name, int maxEdits)
+    {
+        int[] row = new int[name.length() + 1];
+        for (int i = 0; i < row.length; i++)
+        {
+            row[i] = i;
+        }
+        IntList found = new IntList();
+        if (codes[0] >= 0 && row[name.length()] <= maxEdits)
+        {
+            found.add(codes[0]);
+        }
+        for (int c = firstChild[0]; c >= 0; c = nextSibling[c])
+        {
+            near(c, name, row, maxEdits, found);
+        }
+        return found.toArray();
+    }
+
+    /**
+     * Continues the edit distance search below one node.
+     *
+     * @param node      the node being entered
+     * @param name      the name searched for
+     * @param above     the distance row of the parent node
+     * @param maxEdits  the largest edit distance to accept
+     * @param found     where matching codes are added
+     */
+    private void near(int node, String name, int[] above, int maxEdits, IntList found)
+    {
+        int[] row = new int[above.length];
+        row[0] = above[0] + 1;
+        int best = row[0];
+        for (int i = 1; i < row.length; i++)
+        {
+            int change = above[i - 1] + (name.charAt(i - 1) == labels[node] ? 0 : 1);
+            row[i] = Math.min(change, Math.min(above[i] + 1, row[i - 1] + 1));
+            best = Math.min(best, row[i]);
+        }
+
+        if (codes[node] >= 0 && row[row.length - 1] <= maxEdits)
+        {
+            found.add(codes[node]);
+        }
+        if (best <= maxEdits)
+        {
+            for (int c = firstChild[node]; c >= 0; c = nextSibling[c])
+            {
+                near(c, name, row, maxEdits, found);
+            }
+        }
+    }
+
+    /**
+     * Finds the child of a node for a character.
+     *
+     * @param node      the parent node
+     * @param label     the character of the child
+     * @param create    true to add the child if it is missing
+     * @return the child node, or -1 if it is missing and not created
+     */
+    private int child(int node, char label, boolean create)
+    {
+        for (int c = firstChild[node]; c >= 0; c = nextSibling[c])
+        {
+            if (labels[c] == label)
+            {
+                return c;
+            }
+        }
+        if (!create)
+        {
+            return -1;
+        }
+
+        if (nodes == labels.length)
+        {
+            int capacity = nodes * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            codes = Arrays.copyOf(codes, capacity);
+        }
+        int added = nodes++;
+        labels[added] = label;
+        firstChild[added] = -1;
+        codes[added] = -1;
+        nextSibling[added] = firstChild[node];
+        firstChild[node] = added;
+        return added;
+    }
+
+    /**
+     * A growable list of ints, so searches do not box their results.
+     */
+    private static class IntList
+    {
+        private int[] values = new int[8];
+        private int size;
+
+        /**
+         * Appends a value.
+         *
+         * @param value the value to add
+         */
+        void add(int value)
+        {
+            if (size == values.length)
+            {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * Removes and returns the last value.
+         *
+         * @return the last value
+         */
+        int removeLast()
+        {
+            return values[--size];
+        }
+
+        /**
+         * Finds the number of values.
+         *
+         * @return the number of values
+         */
+        int size()
+        {
+            return size;
+        }
+
+        /**
+         * Copies the values into an array.
+         *
+         * @return the values, in the order added
+         */
+        int[] toArray()
+        {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+import java.io.*;
+import java.nio.*;
+
+/**
+ * Keeps fixed-width hurricane records outside the Java heap, so a data
+ * set can be larger than the heap without long garbage collection
+ * pauses.  Records use the snapshot layout, five ints per row (year,
+ * month code, pressure, speed, name code), and are held in ByteBuffer
+ * segments of under 1 GB each.  The segments are either memory mapped
+ * from a HurricaneSnapshot file or allocated as direct buffers.  Only the
+ * month and name dictionaries live on the heap.
+ *
+ * Rows are read as ints straight from the segments, so a scan creates
+ * no objects per row; Hurricane objects are built only for the rows an
+ * organizer returns.  Statistics and searches are answered by
+ * AbstractHurricaneOrganizer over this store.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneOffHeapStore implements HurricaneStore
+{
+    private static final int RECORD_SIZE = HurricaneSnapshot.RECORD_SIZE;
+    private static final int YEAR = 0, MONTH = 4, PRESSURE = 8, SPEED = 12, NAME = 16;
+
+    private ByteBuffer[] segments;
+    // every segment but the last holds exactly this many records
+    private int segmentRecords;
+    private int size;
+    private HurricaneDictionary months, names;
+    // the calendar number of each month code
+    private int[] monthNumbers;
+    // lower case ranks of the names
+    private HurricaneNameRanks nameRanks;
+
+    /**
+     * Initializes a store over segments that already hold records.
+     *
+     * @param segments  the records, in order; every segment but the last
+     *                  holds the same whole number of records
+     * @param size      the number of records
+     * @param months    the month dictionary the records refer to
+     * @param names     the name dictionary the records refer to
+     */
+    HurricaneOffHeapStore(ByteBuffer[] segments, int size,
+        HurricaneDictionary months, HurricaneDictionary names)
+    {
+        this.segments = segments;
+        this.size = size;
+        this.months = months;
+        this.names = names;
+        segmentRecords = segments.length > 1
+            ? segments[0].capacity() / RECORD_SIZE
+            : Math.max(size, 1);
+        // built here rather than on first use, so that parallel scans
+        // never see a table that is still being filled
+        monthNumbers = new int[months.size()];
+        for (int id = 0; id < monthNumbers.length; id++)
+        {
+            monthNumbers[id] = Hurricane.monthNumber(months.decode(id));
+        }
+        nameRanks = new HurricaneNameRanks(names);
+    }
+
+    /**
+     * Opens a hurricane data file as a store mapped from its snapshot.
+     * If the snapshot is missing or out of date, the text file is parsed
+     * and a new snapshot is written first; only that first run holds the
+     * rows on the heap.
+     *
+     * @param filename  hurricane information
+     * @return the hurricanes in file order
+     * @throws IOException  if the text file cannot be read
+     */
+    public static HurricaneOffHeapStore open(String filename) throws IOException
+    {
+        String snapshot = HurricaneSnapshot.snapshotName(filename);
+        HurricaneOffHeapStore store = HurricaneSnapshot.map(filename, snapshot);
+        if (store != null)
+        {
+            return store;
+        }
+
+        HurricaneColumns columns = HurricaneFileReader.readParallel(filename);
+        try
+        {
+            HurricaneSnapshot.write(columns, filename, snapshot);
+            store = HurricaneSnapshot.map(filename, snapshot);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Could not write snapshot " + snapshot + ": " + e.getMessage());
+        }
+        return store != null ? store : allocate(columns);
+    }
+
+    /**
+     * Copies columns into direct buffers outside the heap.  The columns
+     * can be dropped afterwards; the dictionaries are shared.
+     *
+     * @param columns   the hurricanes, in file order
+     * @return a store holding the same rows
+     */
+    public static HurricaneOffHeapStore allocate(HurricaneColumns columns)
+    {
+        int perSegment = (int)(HurricaneSnapshot.WINDOW_SIZE / RECORD_SIZE);
+        int n = columns.size();
+        ByteBuffer[] segments = new ByteBuffer[Math.max((n + perSegment - 1) / perSegment, 1)];
+        int row = 0;
+        for (int s = 0; s < segments.length; s++)
+        {
+            int count = Math.min(perSegment, n - row);
+            ByteBuffer segment = ByteBuffer.allocateDirect(count * RECORD_SIZE);
+            for (int i = 0; i < count; i++, row++)
+            {
+                segment.putInt(columns.getYear(row));
+                segment.putInt(columns.getMonthId(row));
+                segment.putInt(columns.getPressure(row));
+                segment.putInt(columns.getSpeed(row));
+                segment.putInt(columns.getNameId(row));
+            }
+            segment.flip();
+            segments[s] = segment;
+        }
+        return new HurricaneOffHeapStore(segments, n, columns.getMonths(), columns.getNames());
+    }
+
+    /**
+     * Reads one int of a record.
+     *
+     * @param row       the row index
+     * @param offset    the byte offset of the field within the record
+     * @return the field's value
+     */
+    private int field(int row, int offset)
+    {
+        return segments[row / segmentRecords].getInt(row % segmentRecords * RECORD_SIZE + offset);
+    }
+
+    /**
+     * Finds the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Finds the year of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's year
+     */
+    public int getYear(int row)
+    {
+        return field(row, YEAR);
+    }
+
+    /**
+     * Finds the calendar number of the month of a row.
+     *
+     * @param row   the row index
+     * @return the month as 1 to 12, or 0 if it is not recognized
+     */
+    public int getMonthNumber(int row)
+    {
+        return monthNumbers[field(row, MONTH)];
+    }
+
+    /**
+     * Finds the air pressure of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's pressure
+     */
+    public int getPressure(int row)
+    {
+        return field(row, PRESSURE);
+    }
+
+    /**
+     * Finds the speed of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's speed in knots
+     */
+    public int getSpeed(int row)
+    {
+        return field(row, SPEED);
+    }
+
+    /**
+     * Finds the category of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's category
+     */
+    public int getCategory(int row)
+    {
+        return Hurricane.categoryForSpeed(field(row, SPEED));
+    }
+
+    /**
+     * Finds where the name of a row falls among the distinct names,
+     * ignoring case.
+     *
+     * @param row   the row index
+     * @return the index of the row's name key in getNameKeys()
+     */
+    public int getNameRank(int row)
+    {
+        return nameRanks.rankOf(field(row, NAME));
+    }
+
+    /**
+     * Finds the distinct lower case names.
+     *
+     * @return the name keys in ascending order; callers must not change it
+     */
+    public String[] getNameKeys()
+    {
+        return nameRanks.getKeys();
+    }
+
+    /**
+     * Builds a Hurricane object for a row.
+     *
+     * @param row   the row index
+     * @return a new Hurricane holding the row's data
+     */
+    public Hurricane toHurricane(int row)
+    {
+        return new Hurricane(field(row, YEAR), months.decode(field(row, MONTH)),
+            field(row, PRESSURE), field(row, SPEED), names.decode(field(row, NAME)));
+    }
+}
@@ -0,0 +1,454 @@
+import java.util.*;
+
+/**
+ * The operations every hurricane organizer offers, along with the menu
+ * that drives them.  Organizers differ only in the collection their
+ * searches return, given by R, and in the storage backend behind them;
+ * the statistics, sorts and searches behave the same in all of them.
+ *
+ * @param <R>   the collection of hurricanes that searches return
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public interface HurricaneOrganizer<R>
+{
+    /**
+     * Finds the number of hurricanes.
+     *
+     * @return the number of hurricanes
+     */
+    int size();
+
+    /**
+     * Finds the maximum windspeed.
+     *
+     * @return the maximum windspeed
+     */
+    int findMaxWindSpeed();
+
+    /**
+     * Finds the maximum pressure.
+     *
+     * @return the maximum pressure
+     */
+    int findMaxPressure();
+
+    /**
+     * Finds the minimum windspeed.
+     *
+     * @return the minimum windspeed
+     */
+    int findMinWindSpeed();
+
+    /**
+     * Finds the minimum pressure.
+     *
+     * @return the minimum pressure
+     */
+    int findMinPressure();
+
+    /**
+     * Finds the average windspeed.
+     *
+     * @return the average speed
+     */
+    double calculateAverageWindSpeed();
+
+    /**
+     * Finds the average pressure.
+     *
+     * @return the average pressure
+     */
+    double calculateAveragePressure();
+
+    /**
+     * Finds the average category.
+     *
+     * @return the average category
+     */
+    double calculateAverageCategory();
+
+    /**
+     * Finds the statistics of the hurricanes in a range of years, months
+     * and categories.  Every bound is included.
+     *
+     * @param lowYear       the first year
+     * @param highYear      the last year
+     * @param lowMonth      the first month, as 1 to 12
+     * @param highMonth     the last month, as 1 to 12
+     * @param lowCategory   the lowest category
+     * @param highCategory  the highest category
+     * @return the statistics of the matching hurricanes
+     */
+    HurricaneStats findStats(int lowYear, int highYear, int lowMonth, int highMonth,
+        int lowCategory, int highCategory);
+
+    /**
+     * Finds the hurricanes with the largest values of a field, without
+     * sorting them all.
+     *
+     * @param field the field to rank by
+     * @param k     how many hurricanes to find
+     * @return up to k hurricanes, largest first; equal values keep file order
+     */
+    R findLargest(HurricaneField field, int k);
+
+    /**
+     * Finds the hurricanes with the smallest values of a field, without
+     * sorting them all.
+     *
+     * @param field the field to rank by
+     * @param k     how many hurricanes to find
+     * @return up to k hurricanes, smallest first; equal values keep file order
+     */
+    R findSmallest(HurricaneField field, int k);
+
+    /**
+     * Gathers the statistics of each group of hurricanes in one pass.
+     *
+     * @param grouping  how to group the hurricanes
+     * @return the count, minimum, maximum, sum and mean of each group
+     */
+    HurricaneGroupBy groupBy(HurricaneGrouping grouping);
+
+    /**
+     * Sorts ascending based upon the hurricanes' years.
+     */
+    void sortYears();
+
+    /**
+     * Sorts hurricanes by name, ignoring case.
+     */
+    void sortNames();
+
+    /**
+     * Sorts descending based upon the hurricanes' categories.
+     */
+    void sortCategories();
+
+    /**
+     * Sorts descending based upon pressures.
+     */
+    void sortPressures();
+
+    /**
+     * Sorts by several fields at once, such as category descending, then
+     * pressure ascending, then year ascending.  Hurricanes equal in every
+     * field stay in file order.
+     *
+     * @param fields        the fields to sort by, most significant first
+     * @param descending    for each field, true to put its largest values first
+     */
+    void sortBy(HurricaneField[] fields, boolean[] descending);
+
+    /**
+     * Sorts ascending based upon wind speeds, between two positions of
+     * the current order.
+     *
+     * @param low   the index of the first hurricane to sort
+     * @param high  the index of the last hurricane to sort, included
+     */
+    void sortWindSpeeds(int low, int high);
+
+    /**
+     * Search for all the hurricanes in a given year.
+     *
+     * @param year  the year of the hurricane
+     * @return the hurricanes of that year, in the current sort order
+     */
+    R searchYear(int year);
+
+    /**
+     * Search for all the hurricanes in a range of years.
+     *
+     * @param low   the first year to include
+     * @param high  the last year to include
+     * @return the hurricanes between the two years, in the current sort order
+     */
+    R searchYears(int low, int high);
+
+    /**
+     * Search for all the hurricanes with a pressure in a range.
+     *
+     * @param low   the lowest pressure to include
+     * @param high  the highest pressure to include
+     * @return the matching hurricanes, in the current sort order
+     */
+    R searchPressures(int low, int high);
+
+    /**
+     * Search for all the hurricanes with a wind speed in a range.
+     *
+     * @param low   the lowest speed to include, in knots
+     * @param high  the highest speed to include, in knots
+     * @return the matching hurricanes, in the current sort order
+     */
+    R searchWindSpeeds(int low, int high);
+
+    /**
+     * Search for a hurricane name, ignoring case.
+     *
+     * @param name  hurricane name being searched
+     * @return the hurricanes with that name, in the current sort order,
+     *         or null if there are no matches
+     */
+    R searchHurricaneName(String name);
+
+    /**
+     * Search for hurricanes whose name starts with a prefix, ignoring case.
+     *
+     * @param prefix    the start of the hurricane name
+     * @return the matching hurricanes, in the current sort order, or null
+     *         if there are no matches
+     */
+    R searchHurricaneNamePrefix(String prefix);
+
+    /**
+     * Search for hurricanes whose name is close to a given name, ignoring
+     * case.
+     *
+     * @param name      hurricane name being searched
+     * @param maxEdits  the number of letters that may be inserted, deleted
+     *                  or changed to reach the name
+     * @return the matching hurricanes, in the current sort order, or null
+     *         if there are no matches
+     */
+    R searchHurricaneNameFuzzy(String name, int maxEdits);
+
+    /**
+     * Finds the bitmaps of the rows in each category, month and year, for
+     * combining filters with and and or.
+     *
+     * @return the bitmap index of the hurricanes
+     */
+    HurricaneBitmapIndex getBitmapIndex();
+
+    /**
+     * Search for the hurricanes in a set of rows, usually built from
+     * getBitmapIndex().
+     *
+     * @param matches   the rows to return
+     * @return the hurricanes in those rows, in the current sort order
+     */
+    R searchMatching(HurricaneBitmap matches);
+
+    /**
+     * Runs a query, reading only the rows that match it.
+     *
+     * @param query the query
+     * @return the matching rows and the fields selected
+     */
+    HurricaneQueryResult run(HurricaneQuery query);
+
+    /**
+     * Runs a query and collects the matching hurricanes.
+     *
+     * @param query the query
+     * @return the matching hurricanes, in the query's order, or the
+     *         current sort order if it has none
+     */
+    R query(HurricaneQuery query);
+
+    /**
+     * Counts the hurricanes a query matches, ignoring its limit.
+     *
+     * @param query the query
+     * @return the number of matching hurricanes
+     */
+    int count(HurricaneQuery query);
+
+    /**
+     * Prints every hurricane in the order of the last sort.
+     */
+    void printHurricanes();
+
+    /**
+     * Prints some hurricanes.
+     *
+     * @param hurs  the hurricanes to print
+     */
+    void printHurricanes(R hurs);
+
+    /**
+     * Prints the header in a specific format.
+     */
+    default void printHeader()
+    {
+        System.out.println("\n\n");
+        System.out.printf("%-4s %-5s %-15s %-5s %-5s %-5s \n",
+            "Year", "Mon.", "Name", "Cat.", "Knots", "Pressure");
+    }
+
+    /**
+     * Displays the menu.
+     */
+    default void printMenu()
+    {
+        System.out.println("\n\nEnter option: ");
+        System.out.println("\t 1 - Print all hurricane data \n" +
+            "\t 2 - Print maximum and minimum data \n" +
+            "\t 3 - Print averages \n" +
+            "\t 4 - Sort hurricanes by year \n" +
+            "\t 5 - Sort hurricanes by name \n" +
+            "\t 6 - Sort hurricanes by category, descending \n" +
+            "\t 7 - Sort hurricanes by pressure, descending with range \n" +
+            "\t 8 - Sort hurricanes by speed \n" +
+            "\t 9 - Search for hurricanes for a given year \n" +
+            "\t10 - Search for a given hurricane by name \n" +
+            "\t11 - Quit \n" +
+            "\t12 - Run a query \n");
+    }
+
+    /**
+     * Prints out the maximum and minimum wind speeds and pressures.
+     */
+    default void printMaxAndMin( )
+    {
+        System.out.println("Maximum wind speed is " +
+            findMaxWindSpeed( ) +
+            " knots and minimum wind speed is " +
+            findMinWindSpeed( ) + " knots.");
+        System.out.println("Maximum pressure is " +
+            findMaxPressure( ) +
+            " and minimum pressure is " +
+            findMinPressure( ) + ".");
+    }
+
+    /**
+     * Prints the average wind speed, pressure, and category.
+     */
+    default void printAverages( )
+    {
+        System.out.printf("Average wind speed is %5.2f knots. \n" ,
+            calculateAverageWindSpeed( ));
+        System.out.printf("Average pressure is %5.2f. \n" ,
+            calculateAveragePressure( ));
+        System.out.printf("Average category is %5.2f. \n" ,
+            calculateAverageCategory( ));
+    }
+
+    /**
+     * Prints the count and the speed and pressure statistics of each
+     * group of hurricanes.
+     *
+     * @param grouping  how to group the hurricanes
+     */
+    default void printGroups(HurricaneGrouping grouping)
+    {
+        HurricaneGroupBy groups = groupBy(grouping);
+        System.out.println("\n\n");
+        System.out.printf("%-6s %6s %8s %6s %6s %8s %6s %6s \n", "Group", "Count",
+            "Knots", "Min", "Max", "Pressure", "Min", "Max");
+        for (int key : groups.getKeys())
+        {
+            System.out.printf("%-6s %6d %8.2f %6d %6d %8.2f %6d %6d \n",
+                grouping.label(key), groups.getCount(key),
+                groups.getAverage(key, HurricaneField.SPEED),
+                groups.getMin(key, HurricaneField.SPEED),
+                groups.getMax(key, HurricaneField.SPEED),
+                groups.getAverage(key, HurricaneField.PRESSURE),
+                groups.getMin(key, HurricaneField.PRESSURE),
+                groups.getMax(key, HurricaneField.PRESSURE));
+        }
+    }
+
+    /**
+     * Shows the menu, reads one choice and carries it out.
+     *
+     * @return done an indicator for if the process is done or not
+     */
+    default boolean interactWithUser( )
+    {
+        Scanner in = new Scanner(System.in);
+        boolean done = false;
+        printMenu();
+        int choice = in.nextInt();
+        // clear the input buffer
+        in.nextLine();
+
+        if(choice == 1)
+        {
+            printHurricanes( );
+        }
+        else if (choice == 2)
+        {
+            printMaxAndMin( );
+        }
+        else if (choice == 3)
+        {
+            printAverages( );
+        }
+        else if(choice == 4)
+        {
+            sortYears();
+            printHurricanes( );
+        }
+        else if(choice == 5)
+        {
+            sortNames();
+            printHurricanes( );
+        }
+        else if(choice == 6)
+        {
+            sortCategories();
+            printHurricanes( );
+        }
+        else if(choice == 7)
+        {
+            System.out.print("\n\tWhat are the lowest and highest pressures to show?\n\t");
+            int low = in.nextInt();
+            int high = in.nextInt();
+            sortPressures();
+            printHurricanes(searchPressures(low, high));
+        }
+        else if(choice == 8)
+        {
+            sortWindSpeeds(0, size() - 1);
+            printHurricanes( );
+        }
+        else if(choice == 9)
+        {
+            System.out.print("\n\tWhich year do you want to search for?\n\t");
+            int year = in.nextInt();
+            printHurricanes(query(new HurricaneQuery().where(HurricaneField.YEAR, year, year)));
+        }
+        else if(choice == 10)
+        {
+            System.out.print("\n\tWhich name do you want to search for?" +
+                "\n\t(end with * to match the start of names, ~ to allow typos)\n\t");
+            String name = in.next();
+            if (name.endsWith("*"))
+            {
+                printHurricanes(searchHurricaneNamePrefix(name.substring(0, name.length() - 1)));
+            }
+            else if (name.endsWith("~"))
+            {
+                printHurricanes(searchHurricaneNameFuzzy(name.substring(0, name.length() - 1), 2));
+            }
+            else
+            {
+                printHurricanes(searchHurricaneName(name));
+            }
+        }
+        else if (choice == 11)
+        {
+            done = true;
+        }
+        else if (choice == 12)
+        {
+            System.out.print("\n\tEnter a query, for example" +
+                "\n\tcategory>=3 month=aug,sep year=1990-2010 order=-speed limit=10\n\t");
+            try
+            {
+                run(HurricaneQuery.parse(in.nextLine())).print();
+            }
+            catch (IllegalArgumentException e)
+            {
+                System.out.println(e.getMessage());
+            }
+        }
+        return done;
+    }
+}
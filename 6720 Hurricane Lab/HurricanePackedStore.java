@@ -0,0 +1,470 @@
+import java.util.*;
+
+/**
+ * Stores every hurricane packed into a single long, as a compact
+ * alternative to Hurricane objects and to separate columns.  From the
+ * highest bits down, a record holds:
+ *
+ *   year        12 bits
+ *   month code   6 bits
+ *   pressure    11 bits
+ *   speed        9 bits
+ *   category     3 bits
+ *   name code   23 bits
+ *
+ * Month codes are assigned in calendar order, so every field except the
+ * name sorts in the same order as its value.  Sorting by a field rotates
+ * each record so the field sits in the highest bits and then sorts the
+ * long array directly; no objects are compared.  Records with equal keys
+ * end up ordered by the fields that follow the key, in ascending order
+ * whichever way the key is sorted.
+ *
+ * As a HurricaneStore, rows are the records in their current order, so
+ * the store should not be sorted while an organizer is using it.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricanePackedStore implements HurricaneStore
+{
+    private static final int NAME_BITS = 23;
+    private static final int CATEGORY_SHIFT = NAME_BITS;
+    private static final int SPEED_SHIFT = CATEGORY_SHIFT + 3;
+    private static final int PRESSURE_SHIFT = SPEED_SHIFT + 9;
+    private static final int MONTH_SHIFT = PRESSURE_SHIFT + 11;
+    private static final int YEAR_SHIFT = MONTH_SHIFT + 6;
+
+    private long[] records;
+    private HurricaneDictionary months, names;
+    // the calendar number of each month code
+    private int[] monthNumbers;
+    // lower case ranks of the names
+    private HurricaneNameRanks nameRanks;
+
+    /**
+     * Packs every row of some columns.  The name dictionary is shared with
+     * the columns; the months get a dictionary of their own in calendar
+     * order.
+     *
+     * @param columns   the hurricanes, in file order
+     * @throws IllegalArgumentException if a value does not fit its bits
+     */
+    public HurricanePackedStore(HurricaneColumns columns)
+    {
+        names = columns.getNames();
+        int[] monthMap = calendarMonths(columns);
+        records = new long[columns.size()];
+        for (int row = 0; row < records.length; row++)
+        {
+            records[row] = pack(columns.getYear(row), monthMap[columns.getMonthId(row)],
+                columns.getPressure(row), columns.getSpeed(row),
+                columns.getCategory(row), columns.getNameId(row));
+        }
+        // the records only use the codes known now, so both tables are
+        // built here rather than on first use, where parallel scans could
+        // see a table that is still being filled
+        monthNumbers = new int[months.size()];
+        for (int id = 0; id < monthNumbers.length; id++)
+        {
+            monthNumbers[id] = Hurricane.monthNumber(months.decode(id));
+        }
+        nameRanks = new HurricaneNameRanks(names);
+    }
+
+    /**
+     * Packs an array of Hurricane objects.
+     *
+     * @param hurs  the hurricanes
+     * @return a store holding the hurricanes in the same order
+     * @throws IllegalArgumentException if a value does not fit its bits
+     */
+    public static HurricanePackedStore of(Hurricane[] hurs)
+    {
+        HurricaneColumns columns = new HurricaneColumns(hurs.length);
+        for (Hurricane h : hurs)
+        {
+            columns.add(h);
+        }
+        return new HurricanePackedStore(columns);
+    }
+
+    /**
+     * Packs a list of Hurricane objects.
+     *
+     * @param hurs  the hurricanes
+     * @return a store holding the hurricanes in the same order
+     * @throws IllegalArgumentException if a value does not fit its bits
+     */
+    public static HurricanePackedStore of(List<Hurricane> hurs)
+    {
+        HurricaneColumns columns = new HurricaneColumns(hurs.size());
+        for (Hurricane h : hurs)
+        {
+            columns.add(h);
+        }
+        return new HurricanePackedStore(columns);
+    }
+
+    /**
+     * Builds this store's month dictionary, encoding the months of the
+     * columns by calendar number and then by spelling.
+     *
+     * @param columns   the hurricanes being packed
+     * @return the code in this store for each month code of the columns
+     */
+    private int[] calendarMonths(HurricaneColumns columns)
+    {
+        final HurricaneDictionary from = columns.getMonths();
+        Integer[] ids = new Integer[from.size()];
+        for (int id = 0; id < ids.length; id++)
+        {
+            ids[id] = id;
+        }
+        Arrays.sort(ids, new Comparator<Integer>()
+            {
+                public int compare(Integer a, Integer b)
+                {
+                    String first = from.decode(a);
+                    String second = from.decode(b);
+                    int byNumber = Hurricane.monthNumber(first) - Hurricane.monthNumber(second);
+                    return byNumber != 0 ? byNumber : first.compareTo(second);
+                }
+            });
+
+        months = new HurricaneDictionary();
+        int[] map = new int[ids.length];
+        for (Integer id : ids)
+        {
+            map[id] = months.encode(from.decode(id));
+        }
+        return map;
+    }
+
+    /**
+     * Packs the fields of one hurricane into a long.
+     *
+     * @param year      year the hurricane took place
+     * @param monthId   code of the month in getMonths()
+     * @param pressure  hurricane's pressure
+     * @param speed     hurricane's speed in knots
+     * @param category  hurricane's category
+     * @param nameId    code of the name in getNames()
+     * @return the packed record
+     * @throws IllegalArgumentException if a value does not fit its bits
+     */
+    public static long pack(int year, int monthId, int pressure, int speed,
+        int category, int nameId)
+    {
+        return field("year", year, 12) << YEAR_SHIFT
+            | field("month code", monthId, 6) << MONTH_SHIFT
+            | field("pressure", pressure, 11) << PRESSURE_SHIFT
+            | field("speed", speed, 9) << SPEED_SHIFT
+            | field("category", category, 3) << CATEGORY_SHIFT
+            | field("name code", nameId, NAME_BITS);
+    }
+
+    /**
+     * Checks that a value fits in a number of bits.
+     *
+     * @param what  the name of the value, for the error message
+     * @param value the value to check
+     * @param bits  the bits available
+     * @return the value as a long
+     * @throws IllegalArgumentException if the value is negative or too large
+     */
+    private static long field(String what, int value, int bits)
+    {
+        if (value < 0 || value >= 1 << bits)
+        {
+            throw new IllegalArgumentException(what + " " + value
+                + " does not fit in " + bits + " bits");
+        }
+        return value;
+    }
+
+    /**
+     * Finds the lowest bit of a field in a record.
+     *
+     * @param field the field
+     * @return the field's shift
+     */
+    private static int shift(HurricaneField field)
+    {
+        switch (field)
+        {
+            case YEAR:
+                return YEAR_SHIFT;
+            case MONTH:
+                return MONTH_SHIFT;
+            case PRESSURE:
+                return PRESSURE_SHIFT;
+            case SPEED:
+                return SPEED_SHIFT;
+            default:
+                return CATEGORY_SHIFT;
+        }
+    }
+
+    /**
+     * Finds the number of bits of a field in a record.
+     *
+     * @param field the field
+     * @return the field's width
+     */
+    private static int width(HurricaneField field)
+    {
+        switch (field)
+        {
+            case YEAR:
+                return 12;
+            case MONTH:
+                return 6;
+            case PRESSURE:
+                return 11;
+            case SPEED:
+                return 9;
+            default:
+                return 3;
+        }
+    }
+
+    /**
+     * Reads a field from a packed record.  Months are read as their code
+     * in getMonths().
+     *
+     * @param record    the packed record
+     * @param field     the field to read
+     * @return the field's value
+     */
+    public static int unpack(long record, HurricaneField field)
+    {
+        return (int)(record >>> shift(field)) & ((1 << width(field)) - 1);
+    }
+
+    /**
+     * Reads the name code from a packed record.
+     *
+     * @param record    the packed record
+     * @return the code of the name in getNames()
+     */
+    public static int unpackNameId(long record)
+    {
+        return (int)record & ((1 << NAME_BITS) - 1);
+    }
+
+    /**
+     * Sorts every record by a field.
+     *
+     * @param field         the field to sort by
+     * @param descending    true to put the largest values first
+     */
+    public void sort(HurricaneField field, boolean descending)
+    {
+        sort(field, descending, 0, records.length - 1);
+    }
+
+    /**
+     * Sorts the records between two indices by a field.  Each record is
+     * rotated so the field is in the highest bits, with the sign bit
+     * flipped so the signed sort orders the bits as unsigned, and then the
+     * records are sorted as plain longs and rotated back.  For a
+     * descending sort the field's bits are inverted as well, so records
+     * with equal keys stay in the same order as in an ascending sort.
+     *
+     * @param field         the field to sort by
+     * @param descending    true to put the largest values first
+     * @param low           the index of the first record to sort
+     * @param high          the index of the last record to sort, included
+     */
+    public void sort(HurricaneField field, boolean descending, int low, int high)
+    {
+        if (low >= high)
+        {
+            return;
+        }
+        int distance = Long.SIZE - shift(field) - width(field);
+        long flip = Long.MIN_VALUE;
+        if (descending)
+        {
+            flip ^= -1L << (Long.SIZE - width(field));
+        }
+        for (int i = low; i <= high; i++)
+        {
+            records[i] = Long.rotateLeft(records[i], distance) ^ flip;
+        }
+        Arrays.parallelSort(records, low, high + 1);
+        for (int i = low; i <= high; i++)
+        {
+            records[i] = Long.rotateRight(records[i] ^ flip, distance);
+        }
+    }
+
+    /**
+     * Finds the number of records.
+     *
+     * @return the number of records
+     */
+    public int size()
+    {
+        return records.length;
+    }
+
+    /**
+     * Finds a packed record.
+     *
+     * @param index the record's index
+     * @return the packed record
+     */
+    public long get(int index)
+    {
+        return records[index];
+    }
+
+    /**
+     * Finds the year of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's year
+     */
+    public int getYear(int row)
+    {
+        return unpack(records[row], HurricaneField.YEAR);
+    }
+
+    /**
+     * Finds the calendar number of the month of a row.
+     *
+     * @param row   the row index
+     * @return the month as 1 to 12, or 0 if it is not recognized
+     */
+    public int getMonthNumber(int row)
+    {
+        return monthNumbers[unpack(records[row], HurricaneField.MONTH)];
+    }
+
+    /**
+     * Finds the air pressure of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's pressure
+     */
+    public int getPressure(int row)
+    {
+        return unpack(records[row], HurricaneField.PRESSURE);
+    }
+
+    /**
+     * Finds the speed of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's speed in knots
+     */
+    public int getSpeed(int row)
+    {
+        return unpack(records[row], HurricaneField.SPEED);
+    }
+
+    /**
+     * Finds the category of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's category
+     */
+    public int getCategory(int row)
+    {
+        return unpack(records[row], HurricaneField.CATEGORY);
+    }
+
+    /**
+     * Finds where the name of a row falls among the distinct names,
+     * ignoring case.
+     *
+     * @param row   the row index
+     * @return the index of the row's name key in getNameKeys()
+     */
+    public int getNameRank(int row)
+    {
+        return nameRanks.rankOf(unpackNameId(records[row]));
+    }
+
+    /**
+     * Finds the distinct lower case names.
+     *
+     * @return the name keys in ascending order; callers must not change it
+     */
+    public String[] getNameKeys()
+    {
+        return nameRanks.getKeys();
+    }
+
+    /**
+     * Finds the month dictionary, whose codes are in calendar order.
+     *
+     * @return the month dictionary
+     */
+    public HurricaneDictionary getMonths()
+    {
+        return months;
+    }
+
+    /**
+     * Finds the name dictionary.
+     *
+     * @return the name dictionary
+     */
+    public HurricaneDictionary getNames()
+    {
+        return names;
+    }
+
+    /**
+     * Builds a Hurricane object for a record.
+     *
+     * @param index the record's index
+     * @return a new Hurricane holding the record's data
+     */
+    public Hurricane toHurricane(int index)
+    {
+        long record = records[index];
+        return new Hurricane(unpack(record, HurricaneField.YEAR),
+            months.decode(unpack(record, HurricaneField.MONTH)),
+            unpack(record, HurricaneField.PRESSURE),
+            unpack(record, HurricaneField.SPEED),
+            names.decode(unpackNameId(record)));
+    }
+
+    /**
+     * Builds Hurricane objects for every record, in the current order.
+     *
+     * @return an array of new Hurricane objects
+     */
+    public Hurricane[] toArray()
+    {
+        Hurricane[] hurs = new Hurricane[records.length];
+        for (int i = 0; i < hurs.length; i++)
+        {
+            hurs[i] = toHurricane(i);
+        }
+        return hurs;
+    }
+
+    /**
+     * Copies every record, in the current order, into columns.
+     *
+     * @return new columns holding the records
+     */
+    public HurricaneColumns toColumns()
+    {
+        HurricaneColumns columns = new HurricaneColumns(records.length);
+        for (long record : records)
+        {
+            columns.add(unpack(record, HurricaneField.YEAR),
+                months.decode(unpack(record, HurricaneField.MONTH)),
+                unpack(record, HurricaneField.PRESSURE),
+                unpack(record, HurricaneField.SPEED),
+                names.decode(unpackNameId(record)));
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,596 @@
+import java.util.*;
+
+/**
+ * A description of a question about the hurricanes: which rows to keep,
+ * what order to return them in, how many to return and which fields to
+ * show.  Queries are built by chaining calls, for example
+ * <pre>
+ *   new HurricaneQuery().where(HurricaneField.CATEGORY, 3, 5)
+ *       .whereIn(HurricaneField.MONTH, 8, 9)
+ *       .orderBy(HurricaneField.SPEED, true).limit(10)
+ * </pre>
+ * or parsed from text with parse().  Every filter must hold for a row to
+ * match.  A HurricaneQueryPlanner decides how to run a query.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneQuery
+{
+    /**
+     * How a name filter compares names, always ignoring case.
+     */
+    public enum NameMatch
+    {
+        EXACT, PREFIX, NEAR
+    }
+
+    private static final HurricaneField[] FIELDS = HurricaneField.values();
+
+    // the allowed range of each field, bounds included
+    private int[] low, high;
+    // the allowed values of each field, or null to allow the whole range
+    private int[][] values;
+    private String name;
+    private NameMatch nameMatch;
+    private int maxEdits;
+    // the fields to order by, most significant first, and their directions
+    private HurricaneField[] orderBy;
+    private boolean[] descending;
+    private int limit;
+    private HurricaneField[] fields;
+
+    /**
+     * Initializes a query for every hurricane, in the current order, with
+     * every field shown.
+     */
+    public HurricaneQuery()
+    {
+        low = new int[FIELDS.length];
+        high = new int[FIELDS.length];
+        Arrays.fill(low, Integer.MIN_VALUE);
+        Arrays.fill(high, Integer.MAX_VALUE);
+        values = new int[FIELDS.length][];
+        orderBy = new HurricaneField[0];
+        descending = new boolean[0];
+        limit = Integer.MAX_VALUE;
+        fields = FIELDS;
+    }
+
+    /**
+     * Keeps only hurricanes with a field in a range.  Calling it again for
+     * the same field narrows the range.
+     *
+     * @param field the field to filter on
+     * @param low   the lowest value to keep
+     * @param high  the highest value to keep
+     * @return this query
+     */
+    public HurricaneQuery where(HurricaneField field, int low, int high)
+    {
+        int f = field.ordinal();
+        this.low[f] = Math.max(this.low[f], low);
+        this.high[f] = Math.min(this.high[f], high);
+        return this;
+    }
+
+    /**
+     * Keeps only hurricanes with a field equal to one of some values.
+     *
+     * @param field     the field to filter on
+     * @param allowed   the values to keep
+     * @return this query
+     */
+    public HurricaneQuery whereIn(HurricaneField field, int... allowed)
+    {
+        int[] sorted = allowed.clone();
+        Arrays.sort(sorted);
+        int f = field.ordinal();
+        if (values[f] != null)
+        {
+            // keep only the values allowed by both calls
+            int kept = 0;
+            for (int value : sorted)
+            {
+                if (Arrays.binarySearch(values[f], value) >= 0)
+                {
+                    sorted[kept++] = value;
+                }
+            }
+            sorted = Arrays.copyOf(sorted, kept);
+        }
+        values[f] = sorted;
+        return this;
+    }
+
+    /**
+     * Keeps only hurricanes with a name, ignoring case.
+     *
+     * @param name  the name
+     * @return this query
+     */
+    public HurricaneQuery whereName(String name)
+    {
+        return whereName(name, NameMatch.EXACT, 0);
+    }
+
+    /**
+     * Keeps only hurricanes whose name starts with a prefix, ignoring case.
+     *
+     * @param prefix    the start of the name
+     * @return this query
+     */
+    public HurricaneQuery whereNamePrefix(String prefix)
+    {
+        return whereName(prefix, NameMatch.PREFIX, 0);
+    }
+
+    /**
+     * Keeps only hurricanes whose name is close to a name, ignoring case.
+     *
+     * @param name      the name
+     * @param maxEdits  the number of inserted, deleted or changed letters allowed
+     * @return this query
+     */
+    public HurricaneQuery whereNameNear(String name, int maxEdits)
+    {
+        return whereName(name, NameMatch.NEAR, maxEdits);
+    }
+
+    /**
+     * Sets the name filter, replacing any earlier one.
+     *
+     * @param name      the name or prefix
+     * @param match     how to compare names with it
+     * @param maxEdits  the edits allowed for a NEAR match
+     * @return this query
+     */
+    private HurricaneQuery whereName(String name, NameMatch match, int maxEdits)
+    {
+        this.name = name;
+        this.nameMatch = match;
+        this.maxEdits = maxEdits;
+        return this;
+    }
+
+    /**
+     * Orders the results by a field, replacing any earlier order.
+     * Hurricanes with equal values stay in file order.
+     *
+     * @param field         the field to order by
+     * @param descending    true to put the largest values first
+     * @return this query
+     */
+    public HurricaneQuery orderBy(HurricaneField field, boolean descending)
+    {
+        orderBy = new HurricaneField[0];
+        this.descending = new boolean[0];
+        return thenBy(field, descending);
+    }
+
+    /**
+     * Orders results that are equal in the fields ordered by so far by
+     * another field.
+     *
+     * @param field         the next field to order by
+     * @param descending    true to put the largest values first
+     * @return this query
+     */
+    public HurricaneQuery thenBy(HurricaneField field, boolean descending)
+    {
+        orderBy = Arrays.copyOf(orderBy, orderBy.length + 1);
+        this.descending = Arrays.copyOf(this.descending, this.descending.length + 1);
+        orderBy[orderBy.length - 1] = field;
+        this.descending[this.descending.length - 1] = descending;
+        return this;
+    }
+
+    /**
+     * Returns at most a number of hurricanes.
+     *
+     * @param limit the most hurricanes to return
+     * @return this query
+     */
+    public HurricaneQuery limit(int limit)
+    {
+        this.limit = Math.max(limit, 0);
+        return this;
+    }
+
+    /**
+     * Chooses the fields to show for each hurricane, besides its name.
+     *
+     * @param fields    the fields, in the order to show them
+     * @return this query
+     */
+    public HurricaneQuery select(HurricaneField... fields)
+    {
+        this.fields = fields.clone();
+        return this;
+    }
+
+    /**
+     * Tells whether a field is filtered.
+     *
+     * @param field the field
+     * @return true if some values of the field are not kept
+     */
+    public boolean isFiltered(HurricaneField field)
+    {
+        int f = field.ordinal();
+        return low[f] != Integer.MIN_VALUE || high[f] != Integer.MAX_VALUE || values[f] != null;
+    }
+
+    /**
+     * Finds the lowest value kept for a field.
+     *
+     * @param field the field
+     * @return the lowest value kept
+     */
+    public int getLow(HurricaneField field)
+    {
+        return low[field.ordinal()];
+    }
+
+    /**
+     * Finds the highest value kept for a field.
+     *
+     * @param field the field
+     * @return the highest value kept
+     */
+    public int getHigh(HurricaneField field)
+    {
+        return high[field.ordinal()];
+    }
+
+    /**
+     * Finds the values kept for a field by whereIn.
+     *
+     * @param field the field
+     * @return the values in ascending order, or null if any value in the
+     *         range is kept; callers must not change it
+     */
+    public int[] getValues(HurricaneField field)
+    {
+        return values[field.ordinal()];
+    }
+
+    /**
+     * Finds the name filter.
+     *
+     * @return the name or prefix to match, or null if names are not filtered
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Finds how the name filter compares names.
+     *
+     * @return the kind of match, or null if names are not filtered
+     */
+    public NameMatch getNameMatch()
+    {
+        return nameMatch;
+    }
+
+    /**
+     * Finds the edits a NEAR name filter allows.
+     *
+     * @return the number of edits
+     */
+    public int getMaxEdits()
+    {
+        return maxEdits;
+    }
+
+    /**
+     * Finds the first field the results are ordered by.
+     *
+     * @return the field, or null to keep the current order
+     */
+    public HurricaneField getOrderBy()
+    {
+        return orderBy.length == 0 ? null : orderBy[0];
+    }
+
+    /**
+     * Tells whether the results are ordered largest first by the first
+     * field ordered by.
+     *
+     * @return true for descending order
+     */
+    public boolean isDescending()
+    {
+        return descending.length > 0 && descending[0];
+    }
+
+    /**
+     * Finds every field the results are ordered by.
+     *
+     * @return the fields, most significant first; callers must not change it
+     */
+    public HurricaneField[] getOrderFields()
+    {
+        return orderBy;
+    }
+
+    /**
+     * Finds the direction of every field the results are ordered by.
+     *
+     * @return true for each descending field; callers must not change it
+     */
+    public boolean[] getOrderDescending()
+    {
+        return descending;
+    }
+
+    /**
+     * Finds the most hurricanes to return.
+     *
+     * @return the limit, Integer.MAX_VALUE if there is none
+     */
+    public int getLimit()
+    {
+        return limit;
+    }
+
+    /**
+     * Finds the fields to show.
+     *
+     * @return the fields; callers must not change it
+     */
+    public HurricaneField[] getFields()
+    {
+        return fields;
+    }
+
+    /**
+     * Checks the field filters against a row of a store, reading only
+     * ints, so rows that fail are never built into objects.  The name
+     * filter is not checked; it is always answered by the name index.
+     *
+     * @param store the hurricanes
+     * @param row   the row index
+     * @return true if the row passes every field filter
+     */
+    public boolean matches(HurricaneStore store, int row)
+    {
+        for (int f = 0; f < FIELDS.length; f++)
+        {
+            if (isFiltered(FIELDS[f]))
+            {
+                int value = FIELDS[f].of(store, row);
+                if (value < low[f] || value > high[f]
+                    || (values[f] != null && Arrays.binarySearch(values[f], value) < 0))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a query from words separated by spaces, such as
+     * <pre>
+     *   category>=3 month=aug,sep year=1990-2010 order=-speed limit=10
+     * </pre>
+     * A filter is a field name followed by =, &lt;, &lt;=, &gt; or &gt;= and a
+     * value; with = the value can be a range a-b or a list a,b,c, and
+     * months can be given by name.  name=Bob matches a name, name=Bo* a
+     * prefix and name=Bob~ names with up to two typos.  order=field sorts
+     * ascending and order=-field descending; order=-category,pressure
+     * sorts by category and then by pressure.  limit=n keeps the first n,
+     * and select=a,b chooses the fields to show.
+     *
+     * @param text  the query
+     * @return the parsed query
+     * @throws IllegalArgumentException if the text is not a valid query
+     */
+    public static HurricaneQuery parse(String text)
+    {
+        HurricaneQuery query = new HurricaneQuery();
+        for (String word : text.trim().split("\\s+"))
+        {
+            if (word.isEmpty())
+            {
+                continue;
+            }
+            int at = 0;
+            while (at < word.length() && Character.isLetter(word.charAt(at)))
+            {
+                at++;
+            }
+            int end = at;
+            while (end < word.length() && "<>=".indexOf(word.charAt(end)) >= 0)
+            {
+                end++;
+            }
+            String key = word.substring(0, at).toLowerCase(Locale.ROOT);
+            String op = word.substring(at, end);
+            String value = word.substring(end);
+            if (key.isEmpty() || op.isEmpty() || value.isEmpty())
+            {
+                throw new IllegalArgumentException("Cannot read \"" + word + "\"");
+            }
+
+            if (key.equals("name") && op.equals("="))
+            {
+                if (value.endsWith("*"))
+                {
+                    query.whereNamePrefix(value.substring(0, value.length() - 1));
+                }
+                else if (value.endsWith("~"))
+                {
+                    query.whereNameNear(value.substring(0, value.length() - 1), 2);
+                }
+                else
+                {
+                    query.whereName(value);
+                }
+            }
+            else if (key.equals("order") && op.equals("="))
+            {
+                String[] names = value.split(",");
+                for (int i = 0; i < names.length; i++)
+                {
+                    boolean desc = names[i].startsWith("-");
+                    HurricaneField field = fieldNamed(desc ? names[i].substring(1) : names[i]);
+                    if (i == 0)
+                    {
+                        query.orderBy(field, desc);
+                    }
+                    else
+                    {
+                        query.thenBy(field, desc);
+                    }
+                }
+            }
+            else if (key.equals("limit") && op.equals("="))
+            {
+                query.limit(number(value, null));
+            }
+            else if (key.equals("select") && op.equals("="))
+            {
+                String[] names = value.split(",");
+                HurricaneField[] chosen = new HurricaneField[names.length];
+                for (int i = 0; i < names.length; i++)
+                {
+                    chosen[i] = fieldNamed(names[i]);
+                }
+                query.select(chosen);
+            }
+            else
+            {
+                HurricaneField field = fieldNamed(key);
+                parseFilter(query, field, op, value);
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Adds one parsed field filter to a query.
+     *
+     * @param query the query
+     * @param field the field
+     * @param op    the comparison
+     * @param value the value, range or list
+     */
+    private static void parseFilter(HurricaneQuery query, HurricaneField field,
+        String op, String value)
+    {
+        if (op.equals("="))
+        {
+            int dash = value.indexOf('-', 1);
+            if (value.indexOf(',') >= 0)
+            {
+                String[] parts = value.split(",");
+                int[] allowed = new int[parts.length];
+                for (int i = 0; i < parts.length; i++)
+                {
+                    allowed[i] = number(parts[i], field);
+                }
+                query.whereIn(field, allowed);
+            }
+            else if (dash > 0)
+            {
+                query.where(field, number(value.substring(0, dash), field),
+                    number(value.substring(dash + 1), field));
+            }
+            else
+            {
+                int n = number(value, field);
+                query.where(field, n, n);
+            }
+        }
+        else if (op.equals(">="))
+        {
+            query.where(field, number(value, field), Integer.MAX_VALUE);
+        }
+        else if (op.equals(">"))
+        {
+            int n = number(value, field);
+            if (n == Integer.MAX_VALUE)
+            {
+                // nothing is greater; an empty range instead of wrapping
+                query.where(field, Integer.MAX_VALUE, Integer.MIN_VALUE);
+            }
+            else
+            {
+                query.where(field, n + 1, Integer.MAX_VALUE);
+            }
+        }
+        else if (op.equals("<="))
+        {
+            query.where(field, Integer.MIN_VALUE, number(value, field));
+        }
+        else if (op.equals("<"))
+        {
+            int n = number(value, field);
+            if (n == Integer.MIN_VALUE)
+            {
+                // nothing is smaller; an empty range instead of wrapping
+                query.where(field, Integer.MAX_VALUE, Integer.MIN_VALUE);
+            }
+            else
+            {
+                query.where(field, Integer.MIN_VALUE, n - 1);
+            }
+        }
+        else
+        {
+            throw new IllegalArgumentException("Unknown comparison " + op);
+        }
+    }
+
+    /**
+     * Finds a field by name, ignoring case.
+     *
+     * @param name  the field's name
+     * @return the field
+     */
+    private static HurricaneField fieldNamed(String name)
+    {
+        for (HurricaneField field : FIELDS)
+        {
+            if (field.name().equalsIgnoreCase(name))
+            {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field " + name);
+    }
+
+    /**
+     * Reads a number, or a month name for the month field.
+     *
+     * @param text  the number
+     * @param field the field it is for, or null
+     * @return the value
+     */
+    private static int number(String text, HurricaneField field)
+    {
+        if (field == HurricaneField.MONTH && !text.isEmpty()
+            && Character.isLetter(text.charAt(0)))
+        {
+            int month = Hurricane.monthNumber(text);
+            if (month == 0)
+            {
+                throw new IllegalArgumentException("Unknown month " + text);
+            }
+            return month;
+        }
+        try
+        {
+            return Integer.parseInt(text);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException("Not a number: " + text);
+        }
+    }
+}
@@ -0,0 +1,475 @@
+import java.util.*;
+
+/**
+ * Runs HurricaneQuery objects over a store, choosing for each query the
+ * cheapest way to find its candidate rows:
+ * <ul>
+ *   <li>NAME_INDEX when names are filtered, using HurricaneNameIndex;</li>
+ *   <li>RANGE_INDEX when pressures or speeds are filtered and their
+ *       HurricaneRangeIndex finds fewer rows than the other indexes
+ *       would;</li>
+ *   <li>YEAR_INDEX when years are the only indexed field filtered, using
+ *       HurricaneYearIndex;</li>
+ *   <li>BITMAP_INDEX when months or categories are filtered, anding the
+ *       HurricaneBitmapIndex bitmaps of every indexed field filtered;</li>
+ *   <li>SORTED_VIEW when the results are ordered by a field whose sorted
+ *       view is already built, walking the view and stopping at the
+ *       limit;</li>
+ *   <li>FULL_SCAN otherwise.</li>
+ * </ul>
+ * Whatever the plan, the filters it does not answer are checked inside
+ * the loop over candidate rows with HurricaneQuery.matches, which reads
+ * only ints, so rows that fail are never built into Hurricane objects.
+ * An order on one field is applied to the matches with a bounded heap,
+ * and an order on several with HurricaneSortKeys.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneQueryPlanner
+{
+    /**
+     * The ways candidate rows can be found.
+     */
+    public enum Access
+    {
+        NAME_INDEX, RANGE_INDEX, YEAR_INDEX, BITMAP_INDEX, SORTED_VIEW, FULL_SCAN
+    }
+
+    private HurricaneStore store;
+    private HurricaneYearIndex yearIndex;
+    private HurricaneNameIndex nameIndex;
+    private HurricaneSortViews views;
+    // built the first time a query needs it
+    private HurricaneBitmapIndex bitmaps;
+    // the range index of each field, built the first time a query needs it
+    private HurricaneRangeIndex[] ranges = new HurricaneRangeIndex[HurricaneField.values().length];
+
+    /**
+     * Initializes a planner over a store and the indexes built for it.
+     *
+     * @param store     the hurricanes, in file order
+     * @param yearIndex the year index of the store
+     * @param nameIndex the name index of the store
+     * @param views     the sort orders of the store
+     */
+    public HurricaneQueryPlanner(HurricaneStore store, HurricaneYearIndex yearIndex,
+        HurricaneNameIndex nameIndex, HurricaneSortViews views)
+    {
+        this.store = store;
+        this.yearIndex = yearIndex;
+        this.nameIndex = nameIndex;
+        this.views = views;
+    }
+
+    /**
+     * Finds the bitmap index of the store, building it in one pass the
+     * first time it is needed.
+     *
+     * @return the bitmap index
+     */
+    public HurricaneBitmapIndex getBitmapIndex()
+    {
+        if (bitmaps == null)
+        {
+            bitmaps = new HurricaneBitmapIndex(store);
+        }
+        return bitmaps;
+    }
+
+    /**
+     * Finds the range index of a field, building it the first time it is
+     * needed.  It is kept until the data is loaded again.
+     *
+     * @param field the field
+     * @return the range index
+     */
+    public HurricaneRangeIndex getRangeIndex(HurricaneField field)
+    {
+        if (ranges[field.ordinal()] == null)
+        {
+            ranges[field.ordinal()] = new HurricaneRangeIndex(store, field);
+        }
+        return ranges[field.ordinal()];
+    }
+
+    /**
+     * Chooses how to find the candidate rows of a query.
+     *
+     * @param query the query
+     * @return the access path that will be used
+     */
+    public Access plan(HurricaneQuery query)
+    {
+        if (query.getName() != null)
+        {
+            return Access.NAME_INDEX;
+        }
+        HurricaneField range = narrowestRange(query);
+        if (range != null)
+        {
+            int matches = rangeCount(query, range);
+            boolean useRange;
+            if (query.isFiltered(HurricaneField.MONTH) || query.isFiltered(HurricaneField.CATEGORY))
+            {
+                // the bitmaps are faster unless the range is narrow
+                useRange = matches <= store.size() / 16;
+            }
+            else if (query.isFiltered(HurricaneField.YEAR))
+            {
+                useRange = matches <= yearIndex.countBetween(query.getLow(HurricaneField.YEAR),
+                    query.getHigh(HurricaneField.YEAR));
+            }
+            else
+            {
+                useRange = true;
+            }
+            if (useRange)
+            {
+                return Access.RANGE_INDEX;
+            }
+        }
+        if (query.isFiltered(HurricaneField.MONTH) || query.isFiltered(HurricaneField.CATEGORY))
+        {
+            return Access.BITMAP_INDEX;
+        }
+        if (query.isFiltered(HurricaneField.YEAR))
+        {
+            return Access.YEAR_INDEX;
+        }
+        if (query.getOrderFields().length == 1
+            && views.hasView(query.getOrderBy(), query.isDescending()))
+        {
+            return Access.SORTED_VIEW;
+        }
+        return Access.FULL_SCAN;
+    }
+
+    /**
+     * Counts the rows a query matches, ignoring its limit.  Queries that
+     * only filter indexed fields are counted from the indexes.
+     *
+     * @param query the query
+     * @return the number of matching rows
+     */
+    public int count(HurricaneQuery query)
+    {
+        boolean residual = query.isFiltered(HurricaneField.PRESSURE)
+            || query.isFiltered(HurricaneField.SPEED);
+        Access access = plan(query);
+        if (access == Access.RANGE_INDEX)
+        {
+            HurricaneField range = narrowestRange(query);
+            int filtered = 0;
+            for (HurricaneField field : HurricaneField.values())
+            {
+                filtered += query.isFiltered(field) ? 1 : 0;
+            }
+            if (filtered == 1 && query.getValues(range) == null)
+            {
+                return rangeCount(query, range);
+            }
+        }
+        if (access == Access.BITMAP_INDEX && !residual)
+        {
+            return bitmapFor(query).cardinality();
+        }
+        if (access == Access.YEAR_INDEX && !residual
+            && query.getValues(HurricaneField.YEAR) == null)
+        {
+            return yearIndex.countBetween(query.getLow(HurricaneField.YEAR),
+                query.getHigh(HurricaneField.YEAR));
+        }
+        return matchingRows(query, access).length;
+    }
+
+    /**
+     * Runs a query.
+     *
+     * @param query     the query
+     * @param positions where each row sits in the current order, or null
+     *                  for file order; used when the query has no order
+     * @return the matching rows in the query's order, up to its limit
+     */
+    public int[] rows(HurricaneQuery query, int[] positions)
+    {
+        Access access = plan(query);
+        int limit = query.getLimit();
+        if (access == Access.SORTED_VIEW)
+        {
+            return walkView(query, views.byField(query.getOrderBy(), query.isDescending()));
+        }
+
+        int[] rows = matchingRows(query, access);
+        if (query.getOrderFields().length > 1)
+        {
+            rows = HurricaneSortKeys.sort(store, rows, query.getOrderFields(),
+                query.getOrderDescending());
+            return rows.length > limit ? Arrays.copyOf(rows, limit) : rows;
+        }
+        if (query.getOrderBy() != null)
+        {
+            return HurricaneTopK.rowsAmong(store, query.getOrderBy(), limit,
+                query.isDescending(), rows);
+        }
+        if (positions != null)
+        {
+            rows = HurricaneSortViews.arrange(rows, positions);
+        }
+        return rows.length > limit ? Arrays.copyOf(rows, limit) : rows;
+    }
+
+    /**
+     * Finds every row that matches a query.
+     *
+     * @param query     the query
+     * @param access    how to find candidate rows; not SORTED_VIEW
+     * @return the matching rows in file order
+     */
+    private int[] matchingRows(HurricaneQuery query, Access access)
+    {
+        int[] candidates;
+        if (access == Access.NAME_INDEX)
+        {
+            candidates = rowsForName(query);
+        }
+        else if (access == Access.BITMAP_INDEX)
+        {
+            candidates = bitmapFor(query).toRows();
+        }
+        else if (access == Access.RANGE_INDEX)
+        {
+            HurricaneField range = narrowestRange(query);
+            candidates = getRangeIndex(range).between(lowOf(query, range), highOf(query, range));
+            // the index orders rows by value
+            Arrays.sort(candidates);
+        }
+        else if (access == Access.YEAR_INDEX)
+        {
+            candidates = yearIndex.rowsInRowOrder(query.getLow(HurricaneField.YEAR),
+                query.getHigh(HurricaneField.YEAR));
+        }
+        else
+        {
+            return scan(query);
+        }
+
+        int count = 0;
+        for (int row : candidates)
+        {
+            if (query.matches(store, row))
+            {
+                candidates[count++] = row;
+            }
+        }
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Checks the filters against every row.
+     *
+     * @param query the query
+     * @return the matching rows in file order
+     */
+    private int[] scan(HurricaneQuery query)
+    {
+        int[] rows = new int[16];
+        int count = 0;
+        for (int row = 0; row < store.size(); row++)
+        {
+            if (query.matches(store, row))
+            {
+                if (count == rows.length)
+                {
+                    rows = Arrays.copyOf(rows, count * 2);
+                }
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Walks a sorted view, checking the filters, until enough rows match.
+     *
+     * @param query the query
+     * @param view  the rows in the query's order
+     * @return the matching rows in that order, up to the query's limit
+     */
+    private int[] walkView(HurricaneQuery query, int[] view)
+    {
+        int limit = query.getLimit();
+        int[] rows = new int[Math.min(limit, 16)];
+        int count = 0;
+        for (int i = 0; i < view.length && count < limit; i++)
+        {
+            if (query.matches(store, view[i]))
+            {
+                if (count == rows.length)
+                {
+                    rows = Arrays.copyOf(rows, (int)Math.min((long)count * 2, limit));
+                }
+                rows[count++] = view[i];
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Finds the range-indexed field whose filter keeps the fewest rows.
+     *
+     * @param query the query
+     * @return PRESSURE or SPEED, or null if neither is filtered
+     */
+    private HurricaneField narrowestRange(HurricaneQuery query)
+    {
+        HurricaneField best = null;
+        int bestCount = 0;
+        HurricaneField[] indexed = {HurricaneField.PRESSURE, HurricaneField.SPEED};
+        for (HurricaneField field : indexed)
+        {
+            if (query.isFiltered(field))
+            {
+                int count = rangeCount(query, field);
+                if (best == null || count < bestCount)
+                {
+                    best = field;
+                    bestCount = count;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts the rows within the bounds a query puts on a field.
+     *
+     * @param query the query
+     * @param field a range-indexed field
+     * @return the number of rows in the range
+     */
+    private int rangeCount(HurricaneQuery query, HurricaneField field)
+    {
+        return getRangeIndex(field).countBetween(lowOf(query, field), highOf(query, field));
+    }
+
+    /**
+     * Finds the lowest value a query can keep for a field.
+     *
+     * @param query the query
+     * @param field the field
+     * @return the lower bound, raised to the smallest whereIn value
+     */
+    private static int lowOf(HurricaneQuery query, HurricaneField field)
+    {
+        int[] values = query.getValues(field);
+        int low = query.getLow(field);
+        return values == null || values.length == 0 ? low : Math.max(low, values[0]);
+    }
+
+    /**
+     * Finds the highest value a query can keep for a field.
+     *
+     * @param query the query
+     * @param field the field
+     * @return the upper bound, lowered to the largest whereIn value
+     */
+    private static int highOf(HurricaneQuery query, HurricaneField field)
+    {
+        int[] values = query.getValues(field);
+        int high = query.getHigh(field);
+        return values == null || values.length == 0
+            ? high : Math.min(high, values[values.length - 1]);
+    }
+
+    /**
+     * Finds the rows that pass a query's name filter.
+     *
+     * @param query a query with a name filter
+     * @return the matching rows in file order
+     */
+    private int[] rowsForName(HurricaneQuery query)
+    {
+        if (query.getNameMatch() == HurricaneQuery.NameMatch.PREFIX)
+        {
+            return nameIndex.rowsWithPrefix(query.getName());
+        }
+        if (query.getNameMatch() == HurricaneQuery.NameMatch.NEAR)
+        {
+            return nameIndex.rowsNear(query.getName(), query.getMaxEdits());
+        }
+        return nameIndex.rowsFor(query.getName());
+    }
+
+    /**
+     * Ands the bitmaps of every indexed field a query filters.
+     *
+     * @param query the query
+     * @return a new bitmap of the rows passing those filters
+     */
+    private HurricaneBitmap bitmapFor(HurricaneQuery query)
+    {
+        HurricaneBitmapIndex index = getBitmapIndex();
+        HurricaneBitmap result = null;
+        HurricaneField[] indexed = {HurricaneField.CATEGORY, HurricaneField.MONTH,
+            HurricaneField.YEAR};
+        for (HurricaneField field : indexed)
+        {
+            if (!query.isFiltered(field))
+            {
+                continue;
+            }
+            HurricaneBitmap part;
+            int[] values = query.getValues(field);
+            if (values == null)
+            {
+                part = bitmapBetween(index, field, query.getLow(field), query.getHigh(field));
+            }
+            else
+            {
+                List<HurricaneBitmap> parts = new ArrayList<HurricaneBitmap>();
+                for (int value : values)
+                {
+                    if (value >= query.getLow(field) && value <= query.getHigh(field))
+                    {
+                        parts.add(bitmapBetween(index, field, value, value));
+                    }
+                }
+                part = HurricaneBitmap.orAll(parts);
+            }
+            result = result == null ? part : result.and(part);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the bitmap of a range of one indexed field.
+     *
+     * @param index the bitmap index
+     * @param field CATEGORY, MONTH or YEAR
+     * @param low   the lowest value
+     * @param high  the highest value
+     * @return a new bitmap of the rows in the range
+     */
+    private static HurricaneBitmap bitmapBetween(HurricaneBitmapIndex index,
+        HurricaneField field, int low, int high)
+    {
+        if (field == HurricaneField.CATEGORY)
+        {
+            return index.categories(low, high);
+        }
+        if (field == HurricaneField.YEAR)
+        {
+            return index.years(low, high);
+        }
+        int from = Math.max(low, 0);
+        int to = Math.min(high, 12);
+        int[] months = new int[Math.max(to - from + 1, 0)];
+        for (int i = 0; i < months.length; i++)
+        {
+            months[i] = from + i;
+        }
+        return index.months(months);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * The rows a HurricaneQuery returned, with the fields it selected.
+ * Values are read from the store when asked for, so a result holds only
+ * row numbers; Hurricane objects are built one at a time when needed.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneQueryResult
+{
+    private HurricaneStore store;
+    private int[] rows;
+    private HurricaneField[] fields;
+
+    /**
+     * Initializes a result.
+     *
+     * @param store     the hurricanes the rows refer to
+     * @param rows      the rows, in the query's order
+     * @param fields    the fields the query selected
+     */
+    public HurricaneQueryResult(HurricaneStore store, int[] rows, HurricaneField[] fields)
+    {
+        this.store = store;
+        this.rows = rows;
+        this.fields = fields;
+    }
+
+    /**
+     * Finds the number of hurricanes returned.
+     *
+     * @return the number of hurricanes
+     */
+    public int size()
+    {
+        return rows.length;
+    }
+
+    /**
+     * Finds the rows returned.
+     *
+     * @return the row indices in file order, in the query's order;
+     *         callers must not change it
+     */
+    public int[] getRows()
+    {
+        return rows;
+    }
+
+    /**
+     * Finds the fields the query selected.
+     *
+     * @return the fields; callers must not change it
+     */
+    public HurricaneField[] getFields()
+    {
+        return fields;
+    }
+
+    /**
+     * Finds a field of one of the hurricanes returned.
+     *
+     * @param i     the position in the result
+     * @param field the field
+     * @return the field's value
+     */
+    public int getValue(int i, HurricaneField field)
+    {
+        return field.of(store, rows[i]);
+    }
+
+    /**
+     * Builds a Hurricane object for one of the hurricanes returned.
+     *
+     * @param i     the position in the result
+     * @return the hurricane
+     */
+    public Hurricane getHurricane(int i)
+    {
+        return store.toHurricane(rows[i]);
+    }
+
+    /**
+     * Prints the name and the selected fields of every hurricane returned.
+     */
+    public void print()
+    {
+        System.out.println("\n\n");
+        System.out.printf("%-15s", "Name");
+        for (HurricaneField field : fields)
+        {
+            System.out.printf(" %-8s", field.name().charAt(0)
+                + field.name().substring(1).toLowerCase());
+        }
+        System.out.println();
+        for (int i = 0; i < rows.length; i++)
+        {
+            Hurricane h = getHurricane(i);
+            System.out.printf("%-15s", h.getName());
+            for (HurricaneField field : fields)
+            {
+                String value = field == HurricaneField.MONTH
+                    ? h.getMonth() : String.valueOf(field.of(h));
+                System.out.printf(" %-8s", value);
+            }
+            System.out.println();
+        }
+        System.out.println(rows.length + " hurricanes");
+    }
+}
@@ -0,0 +1,121 @@
+import java.util.*;
+
+/**
+ * A sorted secondary index on one field, for range queries on fields
+ * with many distinct values such as pressure and speed.  The rows are
+ * kept sorted by the field, with their values in a parallel int array, so
+ * a range is found with two binary searches: counting the rows in a range
+ * takes O(log n) time and listing them O(log n + k).
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneRangeIndex
+{
+    private HurricaneField field;
+    // the field's values, ascending
+    private int[] keys;
+    // rows[i] has the value keys[i]; equal values are in row order
+    private int[] rows;
+
+    /**
+     * Builds the index of a field over a store.
+     *
+     * @param store the hurricanes
+     * @param field the field to index
+     */
+    public HurricaneRangeIndex(HurricaneStore store, HurricaneField field)
+    {
+        this.field = field;
+        int[] values = new int[store.size()];
+        for (int row = 0; row < values.length; row++)
+        {
+            values[row] = field.of(store, row);
+        }
+        rows = HurricaneSorter.sortedOrder(values, false);
+        keys = new int[rows.length];
+        for (int i = 0; i < rows.length; i++)
+        {
+            keys[i] = values[rows[i]];
+        }
+    }
+
+    /**
+     * Finds the field this index is on.
+     *
+     * @return the field
+     */
+    public HurricaneField getField()
+    {
+        return field;
+    }
+
+    /**
+     * Finds the rows with a value in a range.
+     *
+     * @param low   the lowest value, included
+     * @param high  the highest value, included
+     * @return the matching rows, by value and then in row order
+     */
+    public int[] between(int low, int high)
+    {
+        if (low > high)
+        {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(rows, firstAtLeast(low), firstAbove(high));
+    }
+
+    /**
+     * Counts the rows with a value in a range, without copying them.
+     *
+     * @param low   the lowest value, included
+     * @param high  the highest value, included
+     * @return the number of matching rows
+     */
+    public int countBetween(int low, int high)
+    {
+        if (low > high)
+        {
+            return 0;
+        }
+        return firstAbove(high) - firstAtLeast(low);
+    }
+
+    /**
+     * Binary search for the first key that is not below a value.
+     *
+     * @param value the value to search for
+     * @return the index into keys, or keys.length if every key is lower
+     */
+    private int firstAtLeast(int value)
+    {
+        int low = 0;
+        int high = keys.length;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < value)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Binary search for the first key above a value.
+     *
+     * @param value the value to search for
+     * @return the index into keys, or keys.length if no key is higher
+     */
+    private int firstAbove(int value)
+    {
+        return value == Integer.MAX_VALUE ? keys.length : firstAtLeast(value + 1);
+    }
+}
@@ -0,0 +1,369 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * Saves loaded hurricane data in a compact binary file so later runs can
+ * skip parsing the text file.  The snapshot is opened through a memory
+ * mapped FileChannel and is only used while the text file's size and
+ * modification time still match the ones recorded in it.  A snapshot
+ * that is out of date, truncated or corrupt is treated as missing, and
+ * the text file is parsed again.
+ *
+ * load copies the records onto the heap as HurricaneColumns; for a start
+ * that reads no records at all, HurricaneOffHeapStore.open keeps them in
+ * the mapped file instead.
+ *
+ * Layout, all big endian:
+ * <pre>
+ *   int  magic, int version
+ *   long text file size, long text file modification time
+ *   int  rows, int months, int names
+ *   string table: months then names, each an int length and UTF-8 bytes
+ *   records: rows x (year, month code, pressure, speed, name code) as ints
+ * </pre>
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneSnapshot
+{
+    private static final int MAGIC = 0x48555253;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4 + 4;
+    static final int RECORD_SIZE = 5 * 4;
+    // records mapped per window, a whole number of records under 1 GB
+    static final long WINDOW_SIZE = (1L << 30) / RECORD_SIZE * RECORD_SIZE;
+
+    /**
+     * Finds the snapshot file that goes with a text file.
+     *
+     * @param filename  hurricane information
+     * @return the name of the snapshot file
+     */
+    public static String snapshotName(String filename)
+    {
+        return filename + ".snap";
+    }
+
+    /**
+     * Loads a hurricane data file, using its snapshot when the snapshot is
+     * still valid.  Otherwise the text file is parsed and a new snapshot is
+     * written for next time.
+     *
+     * @param filename  hurricane information
+     * @return the hurricanes in file order
+     * @throws IOException  if the text file cannot be read
+     */
+    public static HurricaneColumns load(String filename) throws IOException
+    {
+        String snapshot = snapshotName(filename);
+        HurricaneColumns columns = open(filename, snapshot);
+        if (columns != null)
+        {
+            return columns;
+        }
+
+        columns = HurricaneFileReader.readParallel(filename);
+        try
+        {
+            write(columns, filename, snapshot);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Could not write snapshot " + snapshot + ": " + e.getMessage());
+        }
+        return columns;
+    }
+
+    /**
+     * Writes a snapshot of the given data.  The snapshot is written to a
+     * temporary file first and then moved into place.
+     *
+     * @param columns   the data loaded from the text file
+     * @param filename  the text file the data came from
+     * @param snapshot  the snapshot file to write
+     * @throws IOException  if the snapshot cannot be written
+     */
+    public static void write(HurricaneColumns columns, String filename, String snapshot)
+        throws IOException
+    {
+        File text = new File(filename);
+        Path target = Paths.get(snapshot);
+        Path temp = Paths.get(snapshot + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temp), 1 << 16));
+        try
+        {
+            HurricaneDictionary months = columns.getMonths();
+            HurricaneDictionary names = columns.getNames();
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(text.length());
+            out.writeLong(text.lastModified());
+            out.writeInt(columns.size());
+            out.writeInt(months.size());
+            out.writeInt(names.size());
+            writeStrings(out, months);
+            writeStrings(out, names);
+            for (int i = 0; i < columns.size(); i++)
+            {
+                out.writeInt(columns.getYear(i));
+                out.writeInt(columns.getMonthId(i));
+                out.writeInt(columns.getPressure(i));
+                out.writeInt(columns.getSpeed(i));
+                out.writeInt(columns.getNameId(i));
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Opens a snapshot if it exists and still matches its text file.
+     *
+     * @param filename  the text file the snapshot was made from
+     * @param snapshot  the snapshot file
+     * @return the hurricanes in file order, or null if the snapshot is
+     *         missing, out of date, truncated or corrupt
+     * @throws IOException  if the snapshot cannot be read
+     */
+    public static HurricaneColumns open(String filename, String snapshot) throws IOException
+    {
+        File file = new File(snapshot);
+        if (!file.isFile() || file.length() < HEADER_SIZE)
+        {
+            return null;
+        }
+
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try
+        {
+            int[] counts = new int[3];
+            long stringsEnd = checkHeader(channel, new File(filename), counts);
+            if (stringsEnd < 0)
+            {
+                return null;
+            }
+
+            HurricaneColumns columns = new HurricaneColumns(counts[0]);
+            MappedByteBuffer strings = channel.map(FileChannel.MapMode.READ_ONLY,
+                    HEADER_SIZE, stringsEnd - HEADER_SIZE);
+            if (!readStrings(strings, columns.getMonths(), counts[1])
+                || !readStrings(strings, columns.getNames(), counts[2]))
+            {
+                return null;
+            }
+            for (ByteBuffer window : mapRecords(channel, stringsEnd))
+            {
+                IntBuffer records = window.asIntBuffer();
+                while (records.hasRemaining())
+                {
+                    int year = records.get();
+                    int monthId = records.get();
+                    int pressure = records.get();
+                    int speed = records.get();
+                    int nameId = records.get();
+                    if (monthId < 0 || monthId >= counts[1] || nameId < 0 || nameId >= counts[2])
+                    {
+                        return null;
+                    }
+                    columns.addCodes(year, monthId, pressure, speed, nameId);
+                }
+            }
+            return columns;
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    /**
+     * Opens a snapshot as an off-heap store whose records stay in the
+     * memory mapped file instead of being copied onto the heap.  Only the
+     * month and name strings are loaded.
+     *
+     * @param filename  the text file the snapshot was made from
+     * @param snapshot  the snapshot file
+     * @return the mapped hurricanes in file order, or null if the snapshot
+     *         is missing, out of date, truncated or its string table is
+     *         corrupt
+     * @throws IOException  if the snapshot cannot be read
+     */
+    public static HurricaneOffHeapStore map(String filename, String snapshot) throws IOException
+    {
+        File file = new File(snapshot);
+        if (!file.isFile() || file.length() < HEADER_SIZE)
+        {
+            return null;
+        }
+
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try
+        {
+            int[] counts = new int[3];
+            long stringsEnd = checkHeader(channel, new File(filename), counts);
+            if (stringsEnd < 0)
+            {
+                return null;
+            }
+
+            HurricaneDictionary months = new HurricaneDictionary();
+            HurricaneDictionary names = new HurricaneDictionary();
+            MappedByteBuffer strings = channel.map(FileChannel.MapMode.READ_ONLY,
+                    HEADER_SIZE, stringsEnd - HEADER_SIZE);
+            if (!readStrings(strings, months, counts[1]) || !readStrings(strings, names, counts[2]))
+            {
+                return null;
+            }
+            // mappings stay valid after the channel is closed
+            return new HurricaneOffHeapStore(mapRecords(channel, stringsEnd),
+                counts[0], months, names);
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    /**
+     * Checks that a snapshot's header matches its text file and that the
+     * file holds exactly the records the header promises.
+     *
+     * @param channel   the snapshot file
+     * @param text      the text file the snapshot was made from
+     * @param counts    filled with the number of rows, months and names
+     * @return the position of the first record, or -1 if the snapshot
+     *         does not match
+     * @throws IOException  if the snapshot cannot be read
+     */
+    private static long checkHeader(FileChannel channel, File text, int[] counts)
+        throws IOException
+    {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt() != MAGIC || header.getInt() != VERSION
+            || header.getLong() != text.length() || header.getLong() != text.lastModified())
+        {
+            return -1;
+        }
+        counts[0] = header.getInt();
+        counts[1] = header.getInt();
+        counts[2] = header.getInt();
+        if (counts[0] < 0 || counts[1] < 0 || counts[2] < 0)
+        {
+            return -1;
+        }
+
+        long stringsEnd = findStringsEnd(channel, HEADER_SIZE, counts[1] + counts[2]);
+        if (stringsEnd < 0 || channel.size() != stringsEnd + (long)counts[0] * RECORD_SIZE)
+        {
+            return -1;
+        }
+        return stringsEnd;
+    }
+
+    /**
+     * Maps the records of a snapshot in windows of whole records.
+     *
+     * @param channel   the snapshot file
+     * @param start     the position of the first record
+     * @return the read-only windows, in file order
+     * @throws IOException  if the snapshot cannot be mapped
+     */
+    private static ByteBuffer[] mapRecords(FileChannel channel, long start) throws IOException
+    {
+        long size = channel.size() - start;
+        ByteBuffer[] windows = new ByteBuffer[(int)((size + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+        for (int i = 0; i < windows.length; i++)
+        {
+            long pos = start + i * WINDOW_SIZE;
+            windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, pos,
+                Math.min(WINDOW_SIZE, channel.size() - pos));
+        }
+        return windows;
+    }
+
+    /**
+     * Writes every string in a dictionary, in code order.
+     *
+     * @param out   where to write
+     * @param dict  the strings to write
+     * @throws IOException  if writing fails
+     */
+    private static void writeStrings(DataOutputStream out, HurricaneDictionary dict)
+        throws IOException
+    {
+        for (int code = 0; code < dict.size(); code++)
+        {
+            byte[] bytes = dict.decode(code).getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reads strings into a dictionary so they get back their original codes.
+     *
+     * @param in    the string table, positioned at the first string
+     * @param dict  an empty dictionary to fill
+     * @param count the number of strings to read
+     * @return false if a string repeats, so the codes would not match
+     */
+    private static boolean readStrings(ByteBuffer in, HurricaneDictionary dict, int count)
+    {
+        byte[] bytes = new byte[64];
+        for (int i = 0; i < count; i++)
+        {
+            int length = in.getInt();
+            if (length > bytes.length)
+            {
+                bytes = new byte[length];
+            }
+            in.get(bytes, 0, length);
+            if (dict.encode(new String(bytes, 0, length, StandardCharsets.UTF_8)) != i)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Walks the length prefixes of the string table to find where the
+     * records begin.
+     *
+     * @param channel   the snapshot file
+     * @param start     the position of the string table
+     * @param count     the number of strings in the table
+     * @return the position just past the table, or -1 if a length is
+     *         negative or the table runs past the end of the file
+     * @throws IOException  if the file cannot be read
+     */
+    private static long findStringsEnd(FileChannel channel, long start, int count) throws IOException
+    {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        long pos = start;
+        for (int i = 0; i < count; i++)
+        {
+            length.clear();
+            if (channel.read(length, pos) != 4)
+            {
+                return -1;
+            }
+            int bytes = length.getInt(0);
+            pos += 4 + (long)bytes;
+            if (bytes < 0 || pos > channel.size())
+            {
+                return -1;
+            }
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,130 @@
+import java.util.*;
+
+/**
+ * Sorts rows by several fields at once, each ascending or descending, by
+ * giving every row one composite primitive key.  Each field is shifted to
+ * start at 0 over the rows being sorted (and flipped if descending), so
+ * it needs only as many bits as its range of values; the fields are
+ * packed into a long, most significant first, followed by the row's
+ * position.  One Arrays.parallelSort of the longs then sorts by every
+ * field with a single comparison per step, and rows equal in every field
+ * keep the order they were given in.
+ *
+ * If the fields and positions do not fit in 63 bits, the rows are sorted
+ * by one field at a time instead, least significant first, with the
+ * stable HurricaneSorter.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneSortKeys
+{
+    /**
+     * Sorts rows by several fields.
+     *
+     * @param store         the hurricanes
+     * @param rows          the rows to sort; not changed
+     * @param fields        the fields to sort by, most significant first
+     * @param descending    for each field, true to put its largest values first
+     * @return the rows in sorted order
+     */
+    public static int[] sort(HurricaneStore store, int[] rows, HurricaneField[] fields,
+        boolean[] descending)
+    {
+        if (fields.length != descending.length)
+        {
+            throw new IllegalArgumentException("Each field needs a direction");
+        }
+        int n = rows.length;
+        int[] min = new int[fields.length];
+        int[] max = new int[fields.length];
+        int[] widths = new int[fields.length];
+        int indexBits = bitsFor(n - 1);
+        int totalBits = indexBits;
+        for (int k = 0; k < fields.length; k++)
+        {
+            min[k] = Integer.MAX_VALUE;
+            max[k] = Integer.MIN_VALUE;
+            for (int row : rows)
+            {
+                int value = fields[k].of(store, row);
+                min[k] = Math.min(min[k], value);
+                max[k] = Math.max(max[k], value);
+            }
+            widths[k] = n == 0 ? 0 : bitsFor((long)max[k] - min[k]);
+            totalBits += widths[k];
+        }
+        if (totalBits > 63)
+        {
+            return sortByEachField(store, rows, fields, descending);
+        }
+
+        long[] keys = new long[n];
+        for (int k = 0; k < fields.length; k++)
+        {
+            for (int i = 0; i < n; i++)
+            {
+                int value = fields[k].of(store, rows[i]);
+                long part = descending[k] ? (long)max[k] - value : (long)value - min[k];
+                keys[i] = keys[i] << widths[k] | part;
+            }
+        }
+        for (int i = 0; i < n; i++)
+        {
+            keys[i] = keys[i] << indexBits | i;
+        }
+        Arrays.parallelSort(keys);
+
+        long mask = (1L << indexBits) - 1;
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            sorted[i] = rows[(int)(keys[i] & mask)];
+        }
+        return sorted;
+    }
+
+    /**
+     * Sorts rows by several fields with one stable sort per field, least
+     * significant field first.
+     *
+     * @param store         the hurricanes
+     * @param rows          the rows to sort; not changed
+     * @param fields        the fields to sort by, most significant first
+     * @param descending    for each field, true to put its largest values first
+     * @return the rows in sorted order
+     */
+    private static int[] sortByEachField(HurricaneStore store, int[] rows,
+        HurricaneField[] fields, boolean[] descending)
+    {
+        int[] order = rows.clone();
+        for (int k = fields.length - 1; k >= 0; k--)
+        {
+            int[] keys = new int[order.length];
+            for (int i = 0; i < keys.length; i++)
+            {
+                keys[i] = fields[k].of(store, order[i]);
+            }
+            int[] perm = HurricaneSorter.sortedOrder(keys, descending[k]);
+            int[] next = new int[order.length];
+            for (int i = 0; i < next.length; i++)
+            {
+                next[i] = order[perm[i]];
+            }
+            order = next;
+        }
+        return order;
+    }
+
+    /**
+     * Finds how many bits hold every value from 0 to a maximum.
+     *
+     * @param max   the largest value, or a negative number for none
+     * @return the number of bits
+     */
+    private static int bitsFor(long max)
+    {
+        return max <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(max);
+    }
+}
@@ -0,0 +1,196 @@
+import java.util.*;
+
+/**
+ * Sorted orders of the loaded rows, kept as int permutations instead of
+ * rearranging the data.  Each order is built the first time it is asked
+ * for and then reused, so asking for an order again costs nothing and
+ * several orders can be in use at once.  A new set of views is made
+ * whenever the data is loaded.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneSortViews
+{
+    private HurricaneStore store;
+    // views[2 * field + (descending ? 1 : 0)], or null until built
+    private int[][] views;
+    private int[] nameView;
+
+    /**
+     * Initializes the views over some rows.  No order is built yet.
+     *
+     * @param store   the rows, in file order
+     */
+    public HurricaneSortViews(HurricaneStore store)
+    {
+        this.store = store;
+        views = new int[2 * HurricaneField.values().length][];
+    }
+
+    /**
+     * Finds the rows sorted by a field.  Equal values stay in file order.
+     * Years, months and categories are counting sorted; pressures and speeds use
+     * the parallel merge sort.
+     *
+     * @param field         the field to sort by
+     * @param descending    true to put the largest values first
+     * @return the row numbers in sorted order; callers must not change it
+     */
+    public int[] byField(HurricaneField field, boolean descending)
+    {
+        int slot = 2 * field.ordinal() + (descending ? 1 : 0);
+        if (views[slot] == null)
+        {
+            int[] keys = new int[store.size()];
+            for (int row = 0; row < keys.length; row++)
+            {
+                keys[row] = field.of(store, row);
+            }
+            if (field == HurricaneField.YEAR || field == HurricaneField.MONTH
+                || field == HurricaneField.CATEGORY)
+            {
+                views[slot] = HurricaneSorter.sortedOrder(keys, descending);
+            }
+            else
+            {
+                views[slot] = HurricaneSorter.parallelSortedOrder(keys, descending);
+            }
+        }
+        return views[slot];
+    }
+
+    /**
+     * Finds the rows sorted by several fields.  Rows equal in every field
+     * stay in file order.  These orders are not cached.
+     *
+     * @param fields        the fields to sort by, most significant first
+     * @param descending    for each field, true to put its largest values first
+     * @return the row numbers in sorted order
+     */
+    public int[] byFields(HurricaneField[] fields, boolean[] descending)
+    {
+        int[] rows = new int[store.size()];
+        for (int row = 0; row < rows.length; row++)
+        {
+            rows[row] = row;
+        }
+        return HurricaneSortKeys.sort(store, rows, fields, descending);
+    }
+
+    /**
+     * Tells whether the order of a field has been built already.
+     *
+     * @param field         the field
+     * @param descending    true for the largest values first
+     * @return true if byField would not need to sort
+     */
+    public boolean hasView(HurricaneField field, boolean descending)
+    {
+        return views[2 * field.ordinal() + (descending ? 1 : 0)] != null;
+    }
+
+    /**
+     * Finds the rows sorted by name, ignoring case.  The rows are counting
+     * sorted by the name ranks the store keeps.
+     *
+     * @return the row numbers in sorted order; callers must not change it
+     */
+    public int[] byName()
+    {
+        if (nameView == null)
+        {
+            int[] keys = new int[store.size()];
+            for (int row = 0; row < keys.length; row++)
+            {
+                keys[row] = store.getNameRank(row);
+            }
+            nameView = HurricaneSorter.sortedOrder(keys, false);
+        }
+        return nameView;
+    }
+
+    /**
+     * Sorts part of an order by a field, leaving the rest in place.
+     * Sorting the whole order returns the cached view instead.
+     *
+     * @param current       the rows in their current order, or null for file order
+     * @param low           the first position to sort
+     * @param high          the last position to sort, included
+     * @param field         the field to sort by
+     * @param descending    true to put the largest values first
+     * @return the rows in their new order
+     */
+    public int[] byFieldWithin(int[] current, int low, int high,
+        HurricaneField field, boolean descending)
+    {
+        if (low == 0 && high == store.size() - 1)
+        {
+            return byField(field, descending);
+        }
+        int[] rows = new int[store.size()];
+        for (int i = 0; i < rows.length; i++)
+        {
+            rows[i] = current == null ? i : current[i];
+        }
+        if (low >= high)
+        {
+            return rows;
+        }
+
+        int[] keys = new int[high - low + 1];
+        for (int i = 0; i < keys.length; i++)
+        {
+            keys[i] = field.of(store, rows[low + i]);
+        }
+        int[] sorted = HurricaneSorter.parallelSortedOrder(keys, descending);
+        int[] part = Arrays.copyOfRange(rows, low, high + 1);
+        for (int i = 0; i < sorted.length; i++)
+        {
+            rows[low + i] = part[sorted[i]];
+        }
+        return rows;
+    }
+
+    /**
+     * Finds where each row sits in an order.
+     *
+     * @param order the rows in some order
+     * @return the position in order of each row
+     */
+    public static int[] positions(int[] order)
+    {
+        int[] positions = new int[order.length];
+        for (int i = 0; i < order.length; i++)
+        {
+            positions[order[i]] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * Puts some rows into the order given by their positions.  Search
+     * results are usually far fewer than the rows, so this sorts only
+     * the matches instead of walking the whole order.
+     *
+     * @param rows      some distinct rows
+     * @param positions the position of every row, from positions(order)
+     * @return the rows, by position
+     */
+    public static int[] arrange(int[] rows, int[] positions)
+    {
+        long[] pairs = new long[rows.length];
+        for (int i = 0; i < rows.length; i++)
+        {
+            pairs[i] = ((long)positions[rows[i]] << 32) | rows[i];
+        }
+        Arrays.sort(pairs);
+        int[] arranged = new int[rows.length];
+        for (int i = 0; i < rows.length; i++)
+        {
+            arranged[i] = (int)pairs[i];
+        }
+        return arranged;
+    }
+}
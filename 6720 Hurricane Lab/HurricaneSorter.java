@@ -0,0 +1,252 @@
+import java.util.concurrent.*;
+
+/**
+ * Sorts hurricanes by one of their integer fields without comparing
+ * Hurricane objects.  The keys are given as an int array and sorted into
+ * a permutation of row numbers, so the data itself never moves.
+ *
+ * Keys that span a small range, such as categories and years, use a
+ * counting sort.  Wider keys use an LSD radix sort over two 16-bit digits.
+ * Both run in O(n + range) time and are stable, so hurricanes with equal
+ * keys keep their current order.
+ *
+ * Keys without a useful bound can use a parallel merge sort instead.
+ * It splits the work on the fork/join common pool, merges through one
+ * scratch buffer allocated for the whole sort, and sorts small runs
+ * sequentially.  It is also stable.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneSorter
+{
+    private static final int DIGIT_BITS = 16;
+    private static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+    // runs this short are sorted on the current thread
+    private static final int PARALLEL_CUTOFF = 1 << 13;
+    // runs this short are insertion sorted
+    private static final int INSERTION_CUTOFF = 32;
+
+    /**
+     * Finds the stable sorted order of some keys.
+     *
+     * @param keys          the key of each row
+     * @param descending    true to put the largest keys first
+     * @return the row numbers in sorted order
+     */
+    public static int[] sortedOrder(int[] keys, boolean descending)
+    {
+        int n = keys.length;
+        int[] order = new int[n];
+        if (n == 0)
+        {
+            return order;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int key : keys)
+        {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+
+        // shift keys to start at 0, flipped for a descending sort
+        int[] shifted = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            shifted[i] = descending ? max - keys[i] : keys[i] - min;
+        }
+
+        long range = (long)max - min + 1;
+        if (range <= Math.max(n, 1 << DIGIT_BITS))
+        {
+            for (int i = 0; i < n; i++)
+            {
+                order[i] = i;
+            }
+            return countingPass(shifted, order, (int)range, 0, -1);
+        }
+
+        int[] identity = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            identity[i] = i;
+        }
+        int[] low = countingPass(shifted, identity, 1 << DIGIT_BITS, 0, DIGIT_MASK);
+        return countingPass(shifted, low, 1 << DIGIT_BITS, DIGIT_BITS, DIGIT_MASK);
+    }
+
+    /**
+     * One stable counting sort pass over a digit of the keys.
+     *
+     * @param keys      the non-negative key of each row
+     * @param rows      the rows in their current order
+     * @param buckets   the number of possible digit values
+     * @param shift     how far to shift a key to reach the digit
+     * @param mask      the bits of the digit after shifting, or -1 for all
+     * @return the rows, stably sorted by the digit
+     */
+    private static int[] countingPass(int[] keys, int[] rows, int buckets, int shift, int mask)
+    {
+        int[] counts = new int[buckets + 1];
+        for (int row : rows)
+        {
+            counts[((keys[row] >>> shift) & mask) + 1]++;
+        }
+        for (int i = 1; i <= buckets; i++)
+        {
+            counts[i] += counts[i - 1];
+        }
+        int[] sorted = new int[rows.length];
+        for (int row : rows)
+        {
+            sorted[counts[(keys[row] >>> shift) & mask]++] = row;
+        }
+        return sorted;
+    }
+
+    /**
+     * Finds the stable sorted order of some keys with a parallel merge sort.
+     *
+     * @param keys          the key of each row
+     * @param descending    true to put the largest keys first
+     * @return the row numbers in sorted order
+     */
+    public static int[] parallelSortedOrder(int[] keys, boolean descending)
+    {
+        int n = keys.length;
+        int[] sortKeys = new int[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            // ~key reverses the order without overflowing
+            sortKeys[i] = descending ? ~keys[i] : keys[i];
+            order[i] = i;
+        }
+        if (n > 1)
+        {
+            new MergeSortTask(sortKeys, order, new int[n], new int[n], 0, n).invoke();
+        }
+        return order;
+    }
+
+    /**
+     * Sorts part of a pair of arrays by key.  Keys and rows move together
+     * so the merges read keys sequentially.
+     */
+    private static class MergeSortTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private int[] keys, rows, keyScratch, rowScratch;
+        private int low, high;
+
+        /**
+         * Initializes a task for the entries from low up to high.
+         *
+         * @param keys          the keys being sorted
+         * @param rows          the row of each key
+         * @param keyScratch    scratch space as long as keys
+         * @param rowScratch    scratch space as long as rows
+         * @param low           the first index to sort
+         * @param high          one past the last index to sort
+         */
+        MergeSortTask(int[] keys, int[] rows, int[] keyScratch, int[] rowScratch,
+            int low, int high)
+        {
+            this.keys = keys;
+            this.rows = rows;
+            this.keyScratch = keyScratch;
+            this.rowScratch = rowScratch;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * Sorts the halves in parallel and merges them, or sorts a short
+         * run directly.
+         */
+        @Override
+        protected void compute()
+        {
+            if (high - low <= PARALLEL_CUTOFF)
+            {
+                sort(low, high);
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            invokeAll(new MergeSortTask(keys, rows, keyScratch, rowScratch, low, mid),
+                new MergeSortTask(keys, rows, keyScratch, rowScratch, mid, high));
+            merge(low, mid, high);
+        }
+
+        /**
+         * Sequential top-down merge sort, with insertion sort for short runs.
+         *
+         * @param from  the first index to sort
+         * @param to    one past the last index to sort
+         */
+        private void sort(int from, int to)
+        {
+            if (to - from <= INSERTION_CUTOFF)
+            {
+                for (int i = from + 1; i < to; i++)
+                {
+                    int key = keys[i];
+                    int row = rows[i];
+                    int j = i - 1;
+                    while (j >= from && keys[j] > key)
+                    {
+                        keys[j + 1] = keys[j];
+                        rows[j + 1] = rows[j];
+                        j--;
+                    }
+                    keys[j + 1] = key;
+                    rows[j + 1] = row;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            sort(from, mid);
+            sort(mid, to);
+            merge(from, mid, to);
+        }
+
+        /**
+         * Merges two sorted neighbouring runs through the scratch buffers.
+         * Equal keys are taken from the first run, keeping the sort stable.
+         *
+         * @param from  the first index of the first run
+         * @param mid   the first index of the second run
+         * @param to    one past the last index of the second run
+         */
+        private void merge(int from, int mid, int to)
+        {
+            if (keys[mid - 1] <= keys[mid])
+            {
+                return; // already in order
+            }
+            int findex = from;
+            int sindex = mid;
+            for (int index = from; index < to; index++)
+            {
+                if (sindex >= to || (findex < mid && keys[findex] <= keys[sindex]))
+                {
+                    keyScratch[index] = keys[findex];
+                    rowScratch[index] = rows[findex];
+                    findex++;
+                }
+                else
+                {
+                    keyScratch[index] = keys[sindex];
+                    rowScratch[index] = rows[sindex];
+                    sindex++;
+                }
+            }
+            System.arraycopy(keyScratch, from, keys, from, to - from);
+            System.arraycopy(rowScratch, from, rows, from, to - from);
+        }
+    }
+}
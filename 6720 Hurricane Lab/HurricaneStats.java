@@ -0,0 +1,173 @@
+import java.util.*;
+
+/**
+ * Count, minimum, maximum, sum and mean of every numeric hurricane field,
+ * added one hurricane or one group of hurricanes at a time.  The
+ * organizers build one of these from their cube and keep it until their
+ * data changes, so the max/min and average methods do not walk the
+ * collection again.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneStats
+{
+    private static final HurricaneField[] FIELDS = HurricaneField.values();
+
+    private long count;
+    private int[] min, max;
+    private long[] sum;
+
+    /**
+     * Initializes statistics for no hurricanes.
+     */
+    public HurricaneStats()
+    {
+        min = new int[FIELDS.length];
+        max = new int[FIELDS.length];
+        sum = new long[FIELDS.length];
+        Arrays.fill(min, Integer.MAX_VALUE);
+        Arrays.fill(max, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Adds one hurricane to the statistics.
+     *
+     * @param year      the hurricane's year
+     * @param month     the hurricane's month as 1 to 12
+     * @param pressure  the hurricane's pressure
+     * @param speed     the hurricane's speed in knots
+     * @param category  the hurricane's category
+     */
+    public void add(int year, int month, int pressure, int speed, int category)
+    {
+        count++;
+        accumulate(HurricaneField.YEAR.ordinal(), year);
+        accumulate(HurricaneField.MONTH.ordinal(), month);
+        accumulate(HurricaneField.PRESSURE.ordinal(), pressure);
+        accumulate(HurricaneField.SPEED.ordinal(), speed);
+        accumulate(HurricaneField.CATEGORY.ordinal(), category);
+    }
+
+    /**
+     * Adds a group of hurricanes that share a year, month and category,
+     * given their pressure and speed statistics.
+     *
+     * @param count         the number of hurricanes in the group
+     * @param year          their year
+     * @param month         their month as 1 to 12
+     * @param category      their category
+     * @param minPressure   the lowest pressure in the group
+     * @param maxPressure   the highest pressure in the group
+     * @param sumPressure   the total pressure of the group
+     * @param minSpeed      the lowest speed in the group
+     * @param maxSpeed      the highest speed in the group
+     * @param sumSpeed      the total speed of the group
+     */
+    void addGroup(long count, int year, int month, int category,
+        int minPressure, int maxPressure, long sumPressure,
+        int minSpeed, int maxSpeed, long sumSpeed)
+    {
+        this.count += count;
+        accumulate(HurricaneField.YEAR.ordinal(), year, year, count * year);
+        accumulate(HurricaneField.MONTH.ordinal(), month, month, count * month);
+        accumulate(HurricaneField.PRESSURE.ordinal(), minPressure, maxPressure, sumPressure);
+        accumulate(HurricaneField.SPEED.ordinal(), minSpeed, maxSpeed, sumSpeed);
+        accumulate(HurricaneField.CATEGORY.ordinal(), category, category, count * category);
+    }
+
+    /**
+     * Folds the minimum, maximum and sum of a group into a field's.
+     *
+     * @param field     the field's ordinal
+     * @param low       the group's minimum
+     * @param high      the group's maximum
+     * @param total     the group's sum
+     */
+    private void accumulate(int field, int low, int high, long total)
+    {
+        if (low < min[field])
+        {
+            min[field] = low;
+        }
+        if (high > max[field])
+        {
+            max[field] = high;
+        }
+        sum[field] += total;
+    }
+
+    /**
+     * Folds one value into a field's minimum, maximum and sum.
+     *
+     * @param field the field's ordinal
+     * @param value the value to add
+     */
+    private void accumulate(int field, int value)
+    {
+        if (value < min[field])
+        {
+            min[field] = value;
+        }
+        if (value > max[field])
+        {
+            max[field] = value;
+        }
+        sum[field] += value;
+    }
+
+    /**
+     * Finds how many hurricanes were added.
+     *
+     * @return the number of hurricanes
+     */
+    public long getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Finds the smallest value of a field.
+     *
+     * @param field the field
+     * @return the minimum, or Integer.MAX_VALUE if there are no hurricanes
+     */
+    public int getMin(HurricaneField field)
+    {
+        return min[field.ordinal()];
+    }
+
+    /**
+     * Finds the largest value of a field.
+     *
+     * @param field the field
+     * @return the maximum, or Integer.MIN_VALUE if there are no hurricanes
+     */
+    public int getMax(HurricaneField field)
+    {
+        return max[field.ordinal()];
+    }
+
+    /**
+     * Finds the total of a field.
+     *
+     * @param field the field
+     * @return the sum of the field over every hurricane
+     */
+    public long getSum(HurricaneField field)
+    {
+        return sum[field.ordinal()];
+    }
+
+    /**
+     * Finds the mean of a field.
+     *
+     * @param field the field
+     * @return the average, or NaN if there are no hurricanes
+     */
+    public double getAverage(HurricaneField field)
+    {
+        return (double)sum[field.ordinal()]/count;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Read access to loaded hurricane rows, whatever holds them.  The
+ * organizers build their indexes, statistics and sort orders through this
+ * interface, so any storage backend (columns, packed longs, off-heap
+ * records) can sit behind them.  Rows are numbered from 0 in file order.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public interface HurricaneStore
+{
+    /**
+     * Finds the number of rows.
+     *
+     * @return the number of rows
+     */
+    int size();
+
+    /**
+     * Finds the year of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's year
+     */
+    int getYear(int row);
+
+    /**
+     * Finds the calendar number of the month of a row.
+     *
+     * @param row   the row index
+     * @return the month as 1 to 12, or 0 if it is not recognized
+     */
+    int getMonthNumber(int row);
+
+    /**
+     * Finds the air pressure of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's pressure
+     */
+    int getPressure(int row);
+
+    /**
+     * Finds the speed of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's speed in knots
+     */
+    int getSpeed(int row);
+
+    /**
+     * Finds the category of a row.
+     *
+     * @param row   the row index
+     * @return the hurricane's category
+     */
+    int getCategory(int row);
+
+    /**
+     * Finds where the name of a row falls among the distinct names,
+     * ignoring case.
+     *
+     * @param row   the row index
+     * @return the index of the row's name key in getNameKeys()
+     */
+    int getNameRank(int row);
+
+    /**
+     * Finds the distinct lower case names.
+     *
+     * @return the name keys in ascending order; callers must not change it
+     */
+    String[] getNameKeys();
+
+    /**
+     * Builds a Hurricane object for a row.
+     *
+     * @param row   the row index
+     * @return a new Hurricane holding the row's data
+     */
+    Hurricane toHurricane(int row);
+}
@@ -0,0 +1,283 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Finds the k hurricanes with the largest or smallest value of a field
+ * without sorting all of them.  The best k rows seen so far are kept in a
+ * bounded min-heap, so a scan takes O(n log k) time and O(k) space, and
+ * the data is only read.
+ *
+ * Each heap entry packs the field value and the row into one long, with
+ * earlier rows ranked higher among equal values, so the results match the
+ * first k rows of a stable sort.
+ *
+ * The parallel variant scans chunks of rows on the fork/join common pool,
+ * each into its own heap, and merges the heaps pairwise.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneTopK
+{
+    // chunks this short are scanned on the current thread
+    private static final int PARALLEL_CUTOFF = 1 << 15;
+
+    /**
+     * Finds the rows with the largest or smallest values of a field.
+     *
+     * @param store     the hurricanes
+     * @param field     the field to rank by
+     * @param k         how many rows to find
+     * @param largest   true for the largest values, false for the smallest
+     * @return up to k rows, best first; equal values keep file order
+     */
+    public static int[] rows(HurricaneStore store, HurricaneField field, int k, boolean largest)
+    {
+        Heap heap = new Heap(Math.min(Math.max(k, 0), store.size()));
+        heap.scan(store, field, largest, 0, store.size());
+        return heap.toRows();
+    }
+
+    /**
+     * Finds the rows with the largest or smallest values of a field,
+     * scanning chunks of the rows in parallel.
+     *
+     * @param store     the hurricanes
+     * @param field     the field to rank by
+     * @param k         how many rows to find
+     * @param largest   true for the largest values, false for the smallest
+     * @return up to k rows, best first; equal values keep file order
+     */
+    public static int[] parallelRows(HurricaneStore store, HurricaneField field, int k,
+        boolean largest)
+    {
+        int capacity = Math.min(Math.max(k, 0), store.size());
+        return new ScanTask(store, field, capacity, largest, 0, store.size()).invoke().toRows();
+    }
+
+    /**
+     * Finds the rows with the largest or smallest values of a field among
+     * some candidate rows.
+     *
+     * @param store         the hurricanes
+     * @param field         the field to rank by
+     * @param k             how many rows to find
+     * @param largest       true for the largest values, false for the smallest
+     * @param candidates    the rows to choose from
+     * @return up to k rows, best first; equal values keep file order
+     */
+    public static int[] rowsAmong(HurricaneStore store, HurricaneField field, int k,
+        boolean largest, int[] candidates)
+    {
+        Heap heap = new Heap(Math.min(Math.max(k, 0), candidates.length));
+        if (heap.limit > 0)
+        {
+            for (int row : candidates)
+            {
+                heap.offer(entry(field.of(store, row), row, largest));
+            }
+        }
+        return heap.toRows();
+    }
+
+    /**
+     * Packs a row and its value into a heap entry.  Better entries are
+     * larger longs: the value, negated when looking for the smallest, is
+     * in the high half, and the low half is larger for earlier rows.
+     *
+     * @param value     the row's field value
+     * @param row       the row index
+     * @param largest   true if larger values are better
+     * @return the entry
+     */
+    private static long entry(int value, int row, boolean largest)
+    {
+        long rank = largest ? value : -(long)value;
+        return rank << 32 | (Integer.MAX_VALUE - row);
+    }
+
+    /**
+     * A min-heap holding at most a fixed number of entries, with the
+     * worst one at the root.  Its array grows as entries are kept, so a
+     * heap over a short range of rows stays small even when k is large.
+     */
+    private static class Heap
+    {
+        // the initial array length, unless the limit is smaller
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int limit;
+        private long[] entries;
+        private int size;
+
+        /**
+         * Initializes an empty heap.
+         *
+         * @param limit the most entries to keep
+         */
+        Heap(int limit)
+        {
+            this.limit = limit;
+            entries = new long[Math.min(limit, INITIAL_CAPACITY)];
+        }
+
+        /**
+         * Offers every row in a range.
+         *
+         * @param store     the hurricanes
+         * @param field     the field to rank by
+         * @param largest   true if larger values are better
+         * @param low       the first row to offer
+         * @param high      one past the last row to offer
+         */
+        void scan(HurricaneStore store, HurricaneField field, boolean largest, int low, int high)
+        {
+            if (limit == 0)
+            {
+                return;
+            }
+            for (int row = low; row < high; row++)
+            {
+                offer(entry(field.of(store, row), row, largest));
+            }
+        }
+
+        /**
+         * Keeps an entry if it is better than the worst one kept.
+         *
+         * @param entry the entry
+         */
+        void offer(long entry)
+        {
+            if (size < limit)
+            {
+                if (size == entries.length)
+                {
+                    entries = Arrays.copyOf(entries,
+                        (int)Math.min(limit, Math.max(2L * entries.length, INITIAL_CAPACITY)));
+                }
+                int i = size++;
+                // sift up
+                while (i > 0 && entries[(i - 1) / 2] > entry)
+                {
+                    entries[i] = entries[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                entries[i] = entry;
+            }
+            else if (entry > entries[0])
+            {
+                // replace the root and sift down
+                int i = 0;
+                while (true)
+                {
+                    int child = 2 * i + 1;
+                    if (child >= size)
+                    {
+                        break;
+                    }
+                    if (child + 1 < size && entries[child + 1] < entries[child])
+                    {
+                        child++;
+                    }
+                    if (entries[child] >= entry)
+                    {
+                        break;
+                    }
+                    entries[i] = entries[child];
+                    i = child;
+                }
+                entries[i] = entry;
+            }
+        }
+
+        /**
+         * Offers every entry of another heap.
+         *
+         * @param other the heap to merge in
+         */
+        void merge(Heap other)
+        {
+            for (int i = 0; i < other.size; i++)
+            {
+                offer(other.entries[i]);
+            }
+        }
+
+        /**
+         * Lists the rows kept.
+         *
+         * @return the rows, best first
+         */
+        int[] toRows()
+        {
+            long[] sorted = Arrays.copyOf(entries, size);
+            Arrays.sort(sorted);
+            int[] rows = new int[size];
+            for (int i = 0; i < size; i++)
+            {
+                rows[i] = Integer.MAX_VALUE - (int)sorted[size - 1 - i];
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Scans a range of rows into a heap, splitting long ranges in two.
+     */
+    private static class ScanTask extends RecursiveTask<Heap>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private HurricaneStore store;
+        private HurricaneField field;
+        private int capacity;
+        private boolean largest;
+        private int low, high;
+
+        /**
+         * Initializes a task for the rows from low up to high.
+         *
+         * @param store     the hurricanes
+         * @param field     the field to rank by
+         * @param capacity  the most entries to keep
+         * @param largest   true if larger values are better
+         * @param low       the first row to scan
+         * @param high      one past the last row to scan
+         */
+        ScanTask(HurricaneStore store, HurricaneField field, int capacity, boolean largest,
+            int low, int high)
+        {
+            this.store = store;
+            this.field = field;
+            this.capacity = capacity;
+            this.largest = largest;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * Scans the halves in parallel and merges their heaps, or scans a
+         * short range directly.
+         *
+         * @return the best entries of the range
+         */
+        @Override
+        protected Heap compute()
+        {
+            if (high - low <= PARALLEL_CUTOFF)
+            {
+                Heap heap = new Heap(capacity);
+                heap.scan(store, field, largest, low, high);
+                return heap;
+            }
+            int mid = (low + high) >>> 1;
+            ScanTask right = new ScanTask(store, field, capacity, largest, mid, high);
+            right.fork();
+            Heap heap = new ScanTask(store, field, capacity, largest, low, mid).compute();
+            heap.merge(right.join());
+            return heap;
+        }
+    }
+}
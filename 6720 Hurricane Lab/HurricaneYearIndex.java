@@ -0,0 +1,307 @@
+import java.util.*;
+
+/**
+ * Finds the rows for a year, or a range of years, without scanning the
+ * data.  Row numbers are grouped by year in one int array, in row order
+ * within each year, and a sorted array of the distinct years records
+ * where each group starts.  A lookup is a binary search over the distinct
+ * years followed by a copy of the matching rows; a lookup in row order
+ * merges the years' groups, each already in row order, instead of
+ * sorting them.
+ *
+ * @author Rohit Tallapragada
+ *
+ * @version October 17, 2026
+ */
+public class HurricaneYearIndex
+{
+    // distinct years, ascending
+    private int[] keys;
+    // rows of keys[i] are rows[offsets[i]] up to rows[offsets[i + 1]]
+    private int[] offsets;
+    private int[] rows;
+
+    /**
+     * Builds the index for the years of a store.
+     *
+     * @param store   the hurricanes to index
+     */
+    public HurricaneYearIndex(HurricaneStore store)
+    {
+        int[] years = new int[store.size()];
+        for (int i = 0; i < years.length; i++)
+        {
+            years[i] = store.getYear(i);
+        }
+        build(years);
+    }
+
+    /**
+     * Builds the index for a list of years, one per row.
+     *
+     * @param years the year of each row
+     */
+    public HurricaneYearIndex(int[] years)
+    {
+        build(years);
+    }
+
+    /**
+     * Groups the rows by year.  Years normally span a few hundred values,
+     * so the rows are placed with a counting sort; a very wide spread of
+     * years falls back to sorting year and row pairs.
+     *
+     * @param years the year of each row
+     */
+    private void build(int[] years)
+    {
+        int n = years.length;
+        rows = new int[n];
+        if (n == 0)
+        {
+            keys = new int[0];
+            offsets = new int[1];
+            return;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int year : years)
+        {
+            min = Math.min(min, year);
+            max = Math.max(max, year);
+        }
+
+        long range = (long)max - min + 1;
+        if (range <= Math.max(n, 1 << 16))
+        {
+            int[] counts = new int[(int)range + 1];
+            for (int year : years)
+            {
+                counts[year - min + 1]++;
+            }
+            int distinct = 0;
+            for (int i = 1; i < counts.length; i++)
+            {
+                if (counts[i] > 0)
+                {
+                    distinct++;
+                }
+            }
+            keys = new int[distinct];
+            offsets = new int[distinct + 1];
+            int k = 0;
+            for (int i = 1; i < counts.length; i++)
+            {
+                if (counts[i] > 0)
+                {
+                    keys[k] = min + i - 1;
+                    offsets[k + 1] = offsets[k] + counts[i];
+                    k++;
+                }
+                counts[i] += counts[i - 1];
+            }
+            for (int row = 0; row < n; row++)
+            {
+                rows[counts[years[row] - min]++] = row;
+            }
+        }
+        else
+        {
+            long[] pairs = new long[n];
+            for (int row = 0; row < n; row++)
+            {
+                pairs[row] = ((long)years[row] << 32) | row;
+            }
+            Arrays.sort(pairs);
+            int[] starts = new int[n + 1];
+            int[] found = new int[n];
+            int distinct = 0;
+            for (int i = 0; i < n; i++)
+            {
+                int year = (int)(pairs[i] >> 32);
+                rows[i] = (int)pairs[i];
+                if (distinct == 0 || found[distinct - 1] != year)
+                {
+                    found[distinct] = year;
+                    starts[distinct] = i;
+                    distinct++;
+                }
+            }
+            starts[distinct] = n;
+            keys = Arrays.copyOf(found, distinct);
+            offsets = Arrays.copyOf(starts, distinct + 1);
+        }
+    }
+
+    /**
+     * Finds the rows for a year.
+     *
+     * @param year  the year to look up
+     * @return the matching rows, in row order
+     */
+    public int[] rowsFor(int year)
+    {
+        return rowsBetween(year, year);
+    }
+
+    /**
+     * Finds the rows for every year in a range.
+     *
+     * @param low   the first year, included
+     * @param high  the last year, included
+     * @return the matching rows, by year and then in row order
+     */
+    public int[] rowsBetween(int low, int high)
+    {
+        if (low > high)
+        {
+            return new int[0];
+        }
+        int first = firstKeyAtLeast(low);
+        int last = firstKeyAtLeast(high);
+        if (last < keys.length && keys[last] == high)
+        {
+            last++;
+        }
+        return Arrays.copyOfRange(rows, offsets[first], offsets[last]);
+    }
+
+    /**
+     * Finds the rows for every year in a range, in row order.  The groups
+     * of the years are merged through a heap of the years, so this costs
+     * O(log n + k log y) for k rows in y years, and a plain copy when the
+     * groups already follow one another, as they do in a file in year
+     * order.
+     *
+     * @param low   the first year, included
+     * @param high  the last year, included
+     * @return the matching rows, in row order
+     */
+    public int[] rowsInRowOrder(int low, int high)
+    {
+        if (low > high)
+        {
+            return new int[0];
+        }
+        int first = firstKeyAtLeast(low);
+        int last = firstKeyAtLeast(high);
+        if (last < keys.length && keys[last] == high)
+        {
+            last++;
+        }
+        boolean ordered = true;
+        for (int k = first + 1; k < last && ordered; k++)
+        {
+            ordered = rows[offsets[k] - 1] < rows[offsets[k]];
+        }
+        if (ordered)
+        {
+            return Arrays.copyOfRange(rows, offsets[first], offsets[last]);
+        }
+
+        int years = last - first;
+        // the next index into rows of each year in the range
+        int[] next = new int[years];
+        // the years, as a min-heap on their next rows
+        int[] heap = new int[years];
+        for (int y = 0; y < years; y++)
+        {
+            next[y] = offsets[first + y];
+            heap[y] = y;
+        }
+        for (int i = years / 2 - 1; i >= 0; i--)
+        {
+            siftDown(heap, years, next, i);
+        }
+        int[] merged = new int[offsets[last] - offsets[first]];
+        int size = years;
+        for (int i = 0; i < merged.length; i++)
+        {
+            int y = heap[0];
+            merged[i] = rows[next[y]++];
+            if (next[y] == offsets[first + y + 1])
+            {
+                heap[0] = heap[--size];
+            }
+            siftDown(heap, size, next, 0);
+        }
+        return merged;
+    }
+
+    /**
+     * Moves a year down the merge heap until its next row is no larger
+     * than those of the years below it.
+     *
+     * @param heap  the years of the merge
+     * @param size  how many years are in the heap
+     * @param next  the next index into rows of each year
+     * @param at    the heap position of the year to move
+     */
+    private void siftDown(int[] heap, int size, int[] next, int at)
+    {
+        int year = heap[at];
+        while (2 * at + 1 < size)
+        {
+            int child = 2 * at + 1;
+            if (child + 1 < size && rows[next[heap[child + 1]]] < rows[next[heap[child]]])
+            {
+                child++;
+            }
+            if (rows[next[year]] <= rows[next[heap[child]]])
+            {
+                break;
+            }
+            heap[at] = heap[child];
+            at = child;
+        }
+        heap[at] = year;
+    }
+
+    /**
+     * Counts the rows for every year in a range, without copying them.
+     *
+     * @param low   the first year, included
+     * @param high  the last year, included
+     * @return the number of matching rows
+     */
+    public int countBetween(int low, int high)
+    {
+        if (low > high)
+        {
+            return 0;
+        }
+        int first = firstKeyAtLeast(low);
+        int last = firstKeyAtLeast(high);
+        if (last < keys.length && keys[last] == high)
+        {
+            last++;
+        }
+        return offsets[last] - offsets[first];
+    }
+
+    /**
+     * Binary search for the first distinct year that is not below a value.
+     *
+     * @param year  the value to search for
+     * @return the index into keys, or keys.length if every year is lower
+     */
+    private int firstKeyAtLeast(int year)
+    {
+        int low = 0;
+        int high = keys.length;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < year)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}